@@ -0,0 +1,73 @@
+package mst.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import mst.CSRGraph;
+import mst.EdgeList;
+import mst.GraphGenerator;
+import mst.WeightBuckets;
+
+/**
+ * The GenerationBenchmark class times the steps of Graph.generateGraph
+ * which build the graph: generating a connected edge list, building the
+ * CSR graph from it, and the parallel and bucketed generators. Graph
+ * itself goes on to print its report and run every algorithm, which the
+ * other benchmarks measure separately.
+ * @author Thomas LaSalle (tel5027)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class GenerationBenchmark {
+	
+	@Param({"1000", "4000"})
+	public int n;
+	
+	@Param({"0.01", "0.1"})
+	public double p;
+	
+	@Param({"1"})
+	public long seed;
+	
+	@Benchmark
+	public EdgeList generateEdges() {
+		EdgeList edges = new EdgeList();
+		
+		new GraphGenerator(n, seed, p).generateConnected(edges, 0);
+		
+		return edges;
+	}
+	
+	@Benchmark
+	public CSRGraph generateCSR() {
+		return CSRGraph.generate(n, seed, p, 0);
+	}
+	
+	@Benchmark
+	public CSRGraph generateParallel() {
+		return CSRGraph.generateParallel(n, seed, p, Runtime.getRuntime().availableProcessors());
+	}
+	
+	@Benchmark
+	public WeightBuckets generateBuckets() {
+		WeightBuckets buckets = new WeightBuckets(n);
+		
+		new GraphGenerator(n, seed, p).generateConnected(buckets, 0);
+		
+		return buckets;
+	}
+}
@@ -0,0 +1,64 @@
+package mst.benchmarks;
+
+import java.util.Arrays;
+
+import mst.CSRGraph;
+import mst.Edge;
+import mst.EdgeList;
+
+/**
+ * The Graphs class builds the fixed inputs the benchmarks share. Every
+ * benchmark generates its graph once per trial from its n, p and seed,
+ * so that the cost of generation is kept out of what it measures. A
+ * method which rearranges its input copies it inside the measured call,
+ * and a copy baseline in the same benchmark measures the copy alone.
+ * @author Thomas LaSalle (tel5027)
+ */
+final class Graphs {
+	
+	/**
+	 * Graphs only provides static methods
+	 */
+	private Graphs() {
+	}
+	
+	/**
+	 * Generate a connected random graph, retrying until one is found
+	 * @param n The number of vertices
+	 * @param seed The random number generator seed
+	 * @param p The probability that two vertices are connected via an edge
+	 * @return The graph
+	 */
+	static CSRGraph generate(int n, long seed, double p) {
+		return CSRGraph.generate(n, seed, p, 0);
+	}
+	
+	/**
+	 * Copy an EdgeList into an array of Edges, keeping their order
+	 * @param list The EdgeList
+	 * @return The equivalent Edge array
+	 */
+	static Edge[] toEdgeArray(EdgeList list) {
+		Edge[] edges = new Edge[list.size()];
+		
+		for(int i = 0; i < edges.length; i++) {
+			edges[i] = new Edge(list.getWeight(i), list.getStartVertex(i), list.getEndVertex(i));
+		}
+		
+		return edges;
+	}
+	
+	/**
+	 * Copy an EdgeList, so that a method which rearranges its input can
+	 * be given the same edges on every call
+	 * @param list The EdgeList
+	 * @return An independent copy
+	 */
+	static EdgeList copy(EdgeList list) {
+		int size = list.size();
+		
+		return new EdgeList(Arrays.copyOf(list.getWeights(), size),
+				Arrays.copyOf(list.getStartVertices(), size),
+				Arrays.copyOf(list.getEndVertices(), size), size);
+	}
+}
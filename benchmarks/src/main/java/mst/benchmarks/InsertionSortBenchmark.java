@@ -0,0 +1,79 @@
+package mst.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import mst.Edge;
+import mst.SortAlgorithm;
+
+/**
+ * The InsertionSortBenchmark class times SortAlgorithm.insertionSort,
+ * which takes quadratic time even on sorted input, on graphs small
+ * enough to finish. countSort and quickSort are timed on the same graphs
+ * so they can be compared at this size. Each sort copies the unsorted
+ * input first, and copyEdges measures that copy alone.
+ * @author Thomas LaSalle (tel5027)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class InsertionSortBenchmark {
+	
+	@Param({"100", "300"})
+	public int n;
+	
+	@Param({"0.05", "0.2"})
+	public double p;
+	
+	@Param({"1"})
+	public long seed;
+	
+	//Instance Variables
+	private Edge[] graphEdges;
+	
+	private SortAlgorithm sort = new SortAlgorithm();
+	
+	/**
+	 * Generate the graph once for the trial
+	 */
+	@Setup(Level.Trial)
+	public void generate() {
+		graphEdges = Graphs.toEdgeArray(Graphs.generate(n, seed, p).getEdges());
+	}
+	
+	@Benchmark
+	public Edge[] copyEdges() {
+		return graphEdges.clone();
+	}
+	
+	@Benchmark
+	public Edge[] insertionSort() {
+		return sort.insertionSort(graphEdges.clone());
+	}
+	
+	@Benchmark
+	public Edge[] countSort() {
+		return sort.countSort(graphEdges.clone(), n);
+	}
+	
+	@Benchmark
+	public Edge[] quickSort() {
+		Edge[] edges = graphEdges.clone();
+		return sort.quickSort(edges, 0, edges.length - 1);
+	}
+}
@@ -0,0 +1,99 @@
+package mst.benchmarks;
+
+import java.util.ArrayList;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import mst.CSRGraph;
+import mst.Edge;
+import mst.EdgeList;
+import mst.Kruskal;
+import mst.SortAlgorithm;
+
+/**
+ * The KruskalBenchmark class times Kruskal's algorithm alone. The edges
+ * are sorted once for the trial, so each KruskalMST overload is measured
+ * without its sort. Filter-Kruskal and the lazy heap Kruskal, which
+ * order the edges themselves and rearrange them, copy the unsorted
+ * edges first; copyEdgeList measures that copy alone. A new Kruskal is
+ * made for every call, as Graph does.
+ * @author Thomas LaSalle (tel5027)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class KruskalBenchmark {
+	
+	@Param({"1000", "4000"})
+	public int n;
+	
+	@Param({"0.01", "0.1"})
+	public double p;
+	
+	@Param({"1"})
+	public long seed;
+	
+	//Instance Variables
+	private Edge[] sortedEdges;
+	private EdgeList sortedList, graph;
+	private long[] sortedPacked;
+	
+	/**
+	 * Generate and sort the graph once for the trial
+	 */
+	@Setup(Level.Trial)
+	public void generate() {
+		SortAlgorithm sort = new SortAlgorithm();
+		CSRGraph csr = Graphs.generate(n, seed, p);
+		
+		graph = csr.getEdges();
+		sortedEdges = sort.countSort(Graphs.toEdgeArray(graph), n);
+		sortedList = sort.countSort(graph, n);
+		sortedPacked = sort.parallelCountSortPacked(graph);
+	}
+	
+	@Benchmark
+	public EdgeList copyEdgeList() {
+		return Graphs.copy(graph);
+	}
+	
+	@Benchmark
+	public ArrayList<Edge> kruskalEdges() {
+		return new Kruskal(n).KruskalMST(sortedEdges);
+	}
+	
+	@Benchmark
+	public EdgeList kruskalEdgeList() {
+		return new Kruskal(n).KruskalMST(sortedList);
+	}
+	
+	@Benchmark
+	public EdgeList kruskalPacked() {
+		return new Kruskal(n).KruskalMST(sortedPacked, sortedPacked.length);
+	}
+	
+	@Benchmark
+	public EdgeList filterKruskal() {
+		return new Kruskal(n).FilterKruskalMST(Graphs.copy(graph));
+	}
+	
+	@Benchmark
+	public EdgeList lazyKruskal() {
+		return new Kruskal(n).LazyKruskalMST(Graphs.copy(graph));
+	}
+}
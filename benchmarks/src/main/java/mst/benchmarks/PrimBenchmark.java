@@ -0,0 +1,81 @@
+package mst.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import mst.AdjacencyMatrix;
+import mst.BinaryHeap;
+import mst.CSRGraph;
+import mst.DaryHeap;
+import mst.EdgeList;
+import mst.PairingHeap;
+import mst.Prim;
+
+/**
+ * The PrimBenchmark class times Prim's algorithm on a fixed graph: on
+ * the CSR graph with each priority queue, and on the flat weight matrix.
+ * The matrix is built once for the trial, so only the tree is measured.
+ * @author Thomas LaSalle (tel5027)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class PrimBenchmark {
+	
+	@Param({"1000", "4000"})
+	public int n;
+	
+	@Param({"0.01", "0.1"})
+	public double p;
+	
+	@Param({"1"})
+	public long seed;
+	
+	//Instance Variables
+	private CSRGraph graph;
+	private int[] matrix;
+	
+	/**
+	 * Generate the graph and its weight matrix once for the trial
+	 */
+	@Setup(Level.Trial)
+	public void generate() {
+		graph = Graphs.generate(n, seed, p);
+		matrix = new AdjacencyMatrix(graph).getWeightMatrix(Integer.MAX_VALUE);
+	}
+	
+	@Benchmark
+	public EdgeList primBinaryHeap() {
+		return new Prim(n, new BinaryHeap(n)).PrimMST(graph);
+	}
+	
+	@Benchmark
+	public EdgeList primDaryHeap() {
+		return new Prim(n, new DaryHeap(n)).PrimMST(graph);
+	}
+	
+	@Benchmark
+	public EdgeList primPairingHeap() {
+		return new Prim(n, new PairingHeap(n)).PrimMST(graph);
+	}
+	
+	@Benchmark
+	public EdgeList primMatrix() {
+		return new Prim(n).PrimMST(matrix);
+	}
+}
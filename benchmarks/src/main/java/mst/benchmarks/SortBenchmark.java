@@ -0,0 +1,120 @@
+package mst.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import mst.CSRGraph;
+import mst.Edge;
+import mst.EdgeList;
+import mst.SortAlgorithm;
+
+/**
+ * The SortBenchmark class times the SortAlgorithm sorts on the edges of
+ * a fixed graph, given in the order they were generated, just as Graph
+ * hands them to Kruskal. The sorts which work in place copy the
+ * unsorted input first, as Graph does, and the copyEdges and copyPacked
+ * baselines measure that copy alone so that it can be subtracted. The
+ * insertion sort is quadratic, so it has its own, smaller graphs in
+ * InsertionSortBenchmark.
+ * @author Thomas LaSalle (tel5027)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class SortBenchmark {
+	
+	@Param({"1000", "4000"})
+	public int n;
+	
+	@Param({"0.01", "0.1"})
+	public double p;
+	
+	@Param({"1"})
+	public long seed;
+	
+	//Instance Variables
+	private EdgeList graph;
+	private Edge[] graphEdges;
+	private long[] graphPacked;
+	
+	private SortAlgorithm sort = new SortAlgorithm();
+	
+	/**
+	 * Generate the graph once for the trial
+	 */
+	@Setup(Level.Trial)
+	public void generate() {
+		CSRGraph csr = Graphs.generate(n, seed, p);
+		
+		graph = csr.getEdges();
+		graphEdges = Graphs.toEdgeArray(graph);
+		graphPacked = csr.getPackedEdges();
+	}
+	
+	@Benchmark
+	public Edge[] copyEdges() {
+		return graphEdges.clone();
+	}
+	
+	@Benchmark
+	public long[] copyPacked() {
+		return graphPacked.clone();
+	}
+	
+	@Benchmark
+	public Edge[] countSort() {
+		return sort.countSort(graphEdges.clone(), n);
+	}
+	
+	@Benchmark
+	public Edge[] quickSort() {
+		Edge[] edges = graphEdges.clone();
+		return sort.quickSort(edges, 0, edges.length - 1);
+	}
+	
+	@Benchmark
+	public Edge[] parallelQuickSort() {
+		Edge[] edges = graphEdges.clone();
+		return sort.parallelQuickSort(edges, 0, edges.length - 1);
+	}
+	
+	@Benchmark
+	public Edge[] parallelCountSortEdges() {
+		return sort.parallelCountSort(graphEdges);
+	}
+	
+	@Benchmark
+	public EdgeList countSortEdgeList() {
+		return sort.countSort(graph, n);
+	}
+	
+	@Benchmark
+	public EdgeList parallelCountSortEdgeList() {
+		return sort.parallelCountSort(graph);
+	}
+	
+	@Benchmark
+	public long[] parallelCountSortPacked() {
+		return sort.parallelCountSortPacked(graph);
+	}
+	
+	@Benchmark
+	public long[] radixSort() {
+		return sort.radixSort(graphPacked.clone(), graphPacked.length);
+	}
+}
@@ -0,0 +1,39 @@
+package mst;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.Test;
+
+/**
+ * Tests that a batch reports a case which never yields a connected graph
+ * as failed, and still runs and reports the cases around it
+ * @author Thomas LaSalle (tel5027)
+ */
+public class BatchRunnerTest {
+	
+	//Constants
+	private static final String NEWLINE = System.lineSeparator();
+	
+	@Test(timeout = 60000)
+	public void disconnectedCaseFailsWithoutBlockingTheBatch() {
+		List<BatchRunner.Case> cases = Arrays.asList(
+				new BatchRunner.Case(9, 1, 0.5),
+				new BatchRunner.Case(50, 3, 0.0),
+				new BatchRunner.Case(30, 2, 0.3));
+		ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+		
+		int failed = new BatchRunner(2, 100, null).run(cases, bytes);
+		String report = new String(bytes.toByteArray(), StandardCharsets.US_ASCII);
+		
+		assertEquals(1, failed);
+		assertTrue(report.contains("CASE 2 OF 3: n=50, seed=3, p=0.0" + NEWLINE + "FAILED: "));
+		assertTrue(report.contains("CASE 3 OF 3: n=30, seed=2, p=0.3" + NEWLINE));
+		assertTrue(report.contains("BATCH COMPLETE: 3 cases, 1 failed"));
+	}
+}
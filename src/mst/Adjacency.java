@@ -0,0 +1,41 @@
+package mst;
+
+/**
+ * The Adjacency interface gives graph algorithms a common way to walk
+ * the neighbors of each vertex, whatever the graph representation.
+ * The neighbors of a vertex are visited with a cursor: firstEdge gives
+ * the cursor of the first edge leaving the vertex, nextEdge moves to
+ * the following edge, and getTarget reads the neighbor at the cursor.
+ * A cursor of -1 means there are no more edges.
+ * @author Thomas LaSalle (tel5027)
+ */
+public interface Adjacency {
+	
+	/**
+	 * Get the number of vertices in the graph
+	 * @return The number of vertices
+	 */
+	public int getVertexCount();
+	
+	/**
+	 * Get the cursor of the first edge leaving a vertex
+	 * @param v The vertex
+	 * @return The cursor, or -1 if the vertex has no edges
+	 */
+	public int firstEdge(int v);
+	
+	/**
+	 * Get the cursor of the edge following the given one
+	 * @param v The vertex the edges leave
+	 * @param cursor The current cursor
+	 * @return The next cursor, or -1 if there are no more edges
+	 */
+	public int nextEdge(int v, int cursor);
+	
+	/**
+	 * Get the neighbor at the end of the edge at a cursor
+	 * @param cursor The cursor
+	 * @return The neighboring vertex
+	 */
+	public int getTarget(int cursor);
+}
@@ -0,0 +1,178 @@
+package mst;
+
+import java.util.Arrays;
+
+/**
+ * The AdjacencyMatrix class provides a compact n x n adjacency matrix
+ * view of a CSRGraph. Whether an edge exists is held in a bit matrix,
+ * one bit per cell, and the weights are not copied: each set bit is
+ * ranked against the CSR weight array, which lists every vertex's
+ * neighbors in ascending order. This needs roughly n^2 / 8 bytes for
+ * the bits and n^2 / 16 bytes for the ranks, rather than one reference
+ * per cell.
+ * @author Thomas LaSalle (tel5027)
+ */
+public class AdjacencyMatrix implements Adjacency {
+	
+	//Instance Variables
+	private int n, wordsPerRow, rank[], weights[];
+	private long bits[];
+	
+	//Constants
+	private static final int MEMORY_FRACTION = 4;
+	
+	/**
+	 * Construct the adjacency matrix of the given graph
+	 * @param graph The graph, in compressed sparse row form
+	 * @throws IllegalArgumentException If the graph has too many vertices
+	 *     for the bit matrix to be held in one array
+	 */
+	public AdjacencyMatrix(CSRGraph graph) {
+		n = graph.getVertexCount();
+		wordsPerRow = (n + 63) >>> 6;
+		
+		if((long) n * wordsPerRow > Integer.MAX_VALUE) {
+			throw new IllegalArgumentException("Too many vertices for an adjacency matrix: " + n);
+		}
+		
+		int[] offsets = graph.getOffsets();
+		int[] targets = graph.getTargets();
+		weights = graph.getWeights();
+		
+		bits = new long[n * wordsPerRow];
+		rank = new int[n * wordsPerRow];
+		
+		for(int x = 0; x < n; x++) {
+			int row = x * wordsPerRow;
+			
+			for(int i = offsets[x]; i < offsets[x + 1]; i++) {
+				int y = targets[i];
+				bits[row + (y >>> 6)] |= 1L << y;
+			}
+			
+			//Record the index of the first weight belonging to each word
+			int index = offsets[x];
+			for(int w = 0; w < wordsPerRow; w++) {
+				rank[row + w] = index;
+				index += Long.bitCount(bits[row + w]);
+			}
+		}
+	}
+	
+	/**
+	 * Check to see if two vertices are connected by an edge
+	 * @param x The starting vertex
+	 * @param y The ending vertex
+	 * @return Whether the edge exists or not
+	 */
+	public boolean hasEdge(int x, int y) {
+		return (bits[(x * wordsPerRow) + (y >>> 6)] & (1L << y)) != 0;
+	}
+	
+	/**
+	 * Get the weight of the edge between two vertices
+	 * @param x The starting vertex
+	 * @param y The ending vertex
+	 * @return The edge weight, or 0 if no edge exists
+	 */
+	public int getWeight(int x, int y) {
+		int word = (x * wordsPerRow) + (y >>> 6);
+		long bit = 1L << y;
+		
+		if((bits[word] & bit) == 0) return 0;
+		
+		return weights[rank[word] + Long.bitCount(bits[word] & (bit - 1))];
+	}
+	
+	/**
+	 * Check whether the flat weight matrix of a graph can be built and
+	 * fits comfortably in memory, taking at most a quarter of the heap
+	 * @param n The number of vertices
+	 * @return Whether getWeightMatrix may be called for n vertices
+	 */
+	public static boolean weightMatrixFits(int n) {
+		long cells = (long) n * n;
+		
+		return cells <= Integer.MAX_VALUE
+				&& cells * Integer.BYTES <= Runtime.getRuntime().maxMemory() / MEMORY_FRACTION;
+	}
+	
+	/**
+	 * Expand the matrix into a flat array of weights for algorithms
+	 * which scan whole rows, such as Prim.PrimMST(int[]). The weight of
+	 * the edge between x and y is held at index x * n + y. This needs
+	 * 4 * n^2 bytes.
+	 * @param noEdge The value to hold in cells with no edge
+	 * @return The row-major n x n weight matrix
+	 * @throws IllegalStateException If the matrix has more than
+	 *     Integer.MAX_VALUE cells
+	 */
+	public int[] getWeightMatrix(int noEdge) {
+		if((long) n * n > Integer.MAX_VALUE) {
+			throw new IllegalStateException("Too many vertices for a flat weight matrix: " + n);
+		}
+		
+		int[] matrix = new int[n * n];
+		if(noEdge != 0) Arrays.fill(matrix, noEdge);
+		
+		for(int x = 0; x < n; x++) {
+			int row = x * wordsPerRow;
+			
+			for(int w = 0; w < wordsPerRow; w++) {
+				long word = bits[row + w];
+				int index = rank[row + w];
+				
+				while(word != 0) {
+					int y = (w << 6) + Long.numberOfTrailingZeros(word);
+					matrix[(x * n) + y] = weights[index++];
+					word &= word - 1;
+				}
+			}
+		}
+		
+		return matrix;
+	}
+	
+	/**
+	 * Find the next neighbor of a vertex, scanning its row of the
+	 * matrix a word at a time
+	 * @param x The vertex whose row to scan
+	 * @param from The first column to consider
+	 * @return The smallest neighbor of x no less than from, or -1 if
+	 *     there is none
+	 */
+	public int nextNeighbor(int x, int from) {
+		if(from >= n) return -1;
+		
+		int row = x * wordsPerRow;
+		int w = from >>> 6;
+		long word = bits[row + w] & (-1L << from);
+		
+		while(word == 0) {
+			if(++w == wordsPerRow) return -1;
+			word = bits[row + w];
+		}
+		
+		return (w << 6) + Long.numberOfTrailingZeros(word);
+	}
+	
+	@Override
+	public int firstEdge(int v) {
+		return nextNeighbor(v, 0);
+	}
+	
+	@Override
+	public int nextEdge(int v, int cursor) {
+		return nextNeighbor(v, cursor + 1);
+	}
+	
+	@Override
+	public int getTarget(int cursor) {
+		return cursor;
+	}
+	
+	@Override
+	public int getVertexCount() {
+		return n;
+	}
+}
@@ -0,0 +1,187 @@
+package mst;
+
+import java.io.ByteArrayOutputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Future;
+
+/**
+ * The BatchRunner class runs many graph test cases in one JVM, so that
+ * start-up and JIT warm-up are paid once rather than once per case. The
+ * cases run on a work-stealing pool with a fixed number of threads, and
+ * each writes its report to its own buffer. The reports are written out
+ * in the order the cases were given, whatever order they finish in,
+ * followed by a summary line.
+ * @author Thomas LaSalle (tel5027)
+ */
+public class BatchRunner {
+	
+	/**
+	 * One graph to generate and report on
+	 */
+	public static class Case {
+		
+		//Instance Variables
+		private final int n;
+		private final long seed;
+		private final double p;
+		
+		/**
+		 * Construct a new test case
+		 * @param n The number of vertices in the graph
+		 * @param seed The random number generator seed
+		 * @param p The probability that two vertices are connected via an edge
+		 */
+		public Case(int n, long seed, double p) {
+			this.n = n;
+			this.seed = seed;
+			this.p = p;
+		}
+		
+		/**
+		 * Get the number of vertices in the graph
+		 * @return The number of vertices
+		 */
+		public int getVertexCount() {
+			return n;
+		}
+		
+		/**
+		 * Get the random number generator seed
+		 * @return The seed
+		 */
+		public long getSeed() {
+			return seed;
+		}
+		
+		/**
+		 * Get the probability that two vertices are connected via an edge
+		 * @return The edge probability
+		 */
+		public double getProbability() {
+			return p;
+		}
+		
+		@Override
+		public String toString() {
+			return "n=" + n + ", seed=" + seed + ", p=" + p;
+		}
+	}
+	
+	//Instance Variables
+	private int threads, maxAttempts, generatorThreads;
+	private MSTSelector selector;
+	
+	/**
+	 * Construct a new runner
+	 * @param threads The number of cases to run at once
+	 * @param maxAttempts The number of graphs to try for each case before
+	 *     giving up, or 0 to keep trying until a connected graph is found
+	 * @param selector The algorithm selector, or null to run every variant
+	 */
+	public BatchRunner(int threads, int maxAttempts, MSTSelector selector) {
+		this(threads, maxAttempts, selector, 0);
+	}
+	
+	/**
+	 * Construct a new runner which generates each graph on several
+	 * threads with a ParallelGraphGenerator
+	 * @param threads The number of cases to run at once
+	 * @param maxAttempts The number of graphs to try for each case before
+	 *     giving up, or 0 to keep trying until a connected graph is found
+	 * @param selector The algorithm selector, or null to run every variant
+	 * @param generatorThreads The number of threads to generate each graph
+	 *     with, or 0 to use the single-threaded GraphGenerator
+	 */
+	public BatchRunner(int threads, int maxAttempts, MSTSelector selector, int generatorThreads) {
+		this.threads = threads;
+		this.maxAttempts = maxAttempts;
+		this.selector = selector;
+		this.generatorThreads = generatorThreads;
+	}
+	
+	/**
+	 * Run every case and write their reports to the output in the order
+	 * the cases were given. A case which fails is reported as failed and
+	 * the rest still run.
+	 * @param cases The test cases
+	 * @param output The stream to write the reports to
+	 * @return The number of cases which failed
+	 */
+	public int run(List<Case> cases, OutputStream output) {
+		GraphWriter out = new GraphWriter(output);
+		List<Future<String>> reports = new ArrayList<Future<String>>();
+		ForkJoinPool pool = new ForkJoinPool(threads);
+		int failed = 0;
+		long startTime = System.currentTimeMillis();
+		
+		try {
+			for(final Case c : cases) {
+				reports.add(pool.submit(() -> runCase(c)));
+			}
+			
+			for(int i = 0; i < cases.size(); i++) {
+				out.println("###################################");
+				out.println("CASE " + (i + 1) + " OF " + cases.size() + ": " + cases.get(i));
+				
+				try {
+					out.print(reports.get(i).get());
+				}
+				catch(ExecutionException e) {
+					failed++;
+					out.println("FAILED: " + rootCause(e));
+				}
+				out.flush();
+			}
+		}
+		catch(InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new IllegalStateException("Batch was interrupted", e);
+		}
+		finally {
+			pool.shutdownNow();
+		}
+		
+		out.println("###################################");
+		out.println("BATCH COMPLETE: " + cases.size() + " cases, " + failed + " failed, "
+				+ (System.currentTimeMillis() - startTime) + " milliseconds on "
+				+ threads + " threads");
+		out.flush();
+		
+		return failed;
+	}
+	
+	/**
+	 * Find the exception a case threw. The pool rethrows it wrapped in a
+	 * copy of itself, made on the waiting thread.
+	 * @param e The exception get threw
+	 * @return The exception the case threw
+	 */
+	private static Throwable rootCause(ExecutionException e) {
+		Throwable cause = e.getCause();
+		
+		while(cause.getCause() != null && cause.getCause().getClass() == cause.getClass()) {
+			cause = cause.getCause();
+		}
+		
+		return cause;
+	}
+	
+	/**
+	 * Generate the graph of one case and run its MST algorithms
+	 * @param c The test case
+	 * @return The report Graph printed for the case
+	 */
+	private String runCase(Case c) {
+		ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+		
+		new Graph(c.getVertexCount(), c.getSeed(), c.getProbability(), maxAttempts,
+				selector, 1, generatorThreads, bytes);
+		
+		return new String(bytes.toByteArray(), StandardCharsets.US_ASCII);
+	}
+}
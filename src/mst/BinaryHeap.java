@@ -0,0 +1,125 @@
+package mst;
+
+/**
+ * Class BinaryHeap provides an implementation of an indexed Priority
+ * Queue as a binary min heap. The position of every vertex in the heap
+ * is tracked so that decreaseKey can swim it up in O(log n).
+ * @author Thomas LaSalle (tel5027)
+ */
+public class BinaryHeap implements IndexedPriorityQueue {
+	
+	//Instance Variables
+	private int heap[], qp[], keys[];
+	private int size;
+	
+	/**
+	 * Initialize an empty Priority Queue with the provided capacity
+	 * @param capacity The number of distinct vertex IDs
+	 */
+	public BinaryHeap(int capacity) {
+		heap = new int[capacity + 1];
+		qp = new int[capacity];
+		keys = new int[capacity];
+		size = 0;
+		
+		for(int i = 0; i < capacity; i++) {
+			qp[i] = -1;
+		}
+	}
+	
+	/**
+	 * Exchange two items within the Priority Queue
+	 * @param keyOne The index of the first key
+	 * @param keyTwo The index of the second key
+	 */
+	private void exchange(int keyOne, int keyTwo) {
+		int temp = heap[keyOne];
+		heap[keyOne] = heap[keyTwo];
+		heap[keyTwo] = temp;
+		
+		qp[heap[keyOne]] = keyOne;
+		qp[heap[keyTwo]] = keyTwo;
+	}
+	
+	/**
+	 * Compare the priorities of the vertices at two heap indices
+	 * @param i The first heap index
+	 * @param j The second heap index
+	 * @return Whether the first vertex has a larger priority
+	 */
+	private boolean greater(int i, int j) {
+		return keys[heap[i]] > keys[heap[j]];
+	}
+	
+	/**
+	 * Swim an item up the Priority Queue through repeated
+	 * exchanges until the min heap is valid
+	 * @param k The index of the item to swim up.
+	 */
+	private void swim(int k) {
+		while(k > 1 && greater((k/2), k)) {
+			exchange(k, (k/2));
+			k = (k/2);
+		}
+	}
+	
+	/**
+	 * Sink an item down the Priority Queue through repeated
+	 * exchanges until the min heap is valid
+	 * @param k The index of the item to sink down
+	 */
+	private void sink(int k) {
+		while((2*k) <= size) {
+			int j = (2*k);
+			if(j < size && greater(j, (j+1))) j++;
+			if(!greater(k, j)) break;
+			exchange(k, j);
+			k = j;
+		}
+	}
+	
+	@Override
+	public void insert(int id, int priority) {
+		size++;
+		heap[size] = id;
+		qp[id] = size;
+		keys[id] = priority;
+		swim(size);
+	}
+	
+	@Override
+	public int delete() {
+		int min = heap[1];
+		exchange(1, size--);
+		sink(1);
+		qp[min] = -1;
+		
+		return min;
+	}
+	
+	@Override
+	public void decreaseKey(int id, int priority) {
+		keys[id] = priority;
+		swim(qp[id]);
+	}
+	
+	@Override
+	public boolean contains(int id) {
+		return qp[id] != -1;
+	}
+	
+	@Override
+	public int getPriority(int id) {
+		return keys[id];
+	}
+	
+	@Override
+	public int size() {
+		return size;
+	}
+	
+	@Override
+	public boolean isEmpty() {
+		return size == 0;
+	}
+}
@@ -0,0 +1,182 @@
+package mst;
+
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+import java.util.function.IntConsumer;
+import java.util.stream.IntStream;
+
+/**
+ * Class Boruvka houses a parallel Boruvka's algorithm for selecting a
+ * minimum spanning tree from our randomly generated graph. In each
+ * round, every component finds its cheapest outgoing edge in parallel
+ * on a fork-join pool, every such edge joins the tree, and the
+ * components it connects are contracted into one through a shared
+ * ConcurrentDisjointSet. Ties between equal
+ * weights are broken by the edge's endpoints, so the tree has the same
+ * total weight as the one Kruskal's algorithm finds.
+ * @author Thomas LaSalle (tel5027)
+ */
+public class Boruvka {
+	
+	//Instance variables
+	private int count;
+	private ForkJoinPool pool;
+	
+	/**
+	 * Construct a new Boruvka object based on the provided number of
+	 * vertices, running on the common fork-join pool
+	 * @param n The number of vertices
+	 */
+	public Boruvka(int n) {
+		this(n, ForkJoinPool.commonPool());
+	}
+	
+	/**
+	 * Construct a new Boruvka object based on the provided number of
+	 * vertices, running on the given fork-join pool
+	 * @param n The number of vertices
+	 * @param pool The pool to run the parallel steps on
+	 */
+	public Boruvka(int n, ForkJoinPool pool) {
+		count = n;
+		this.pool = pool;
+	}
+	
+	/**
+	 * BoruvkaMST performs Boruvka's algorithm on the provided graph to
+	 * form a minimum spanning tree
+	 * @param graph The random generated graph
+	 * @return The minimum spanning tree, or a minimum spanning forest if
+	 *     the graph is not connected
+	 */
+	public EdgeList BoruvkaMST(CSRGraph graph) {
+		final int[] offsets = graph.getOffsets();
+		final int[] targets = graph.getTargets();
+		final int[] weights = graph.getWeights();
+		
+		final int[] comp = new int[count];
+		final boolean[] joined = new boolean[count];
+		final AtomicIntegerArray best = new AtomicIntegerArray(count);
+		final ConcurrentDisjointSet sets = new ConcurrentDisjointSet(count);
+		
+		EdgeList mst = new EdgeList(Math.max(count - 1, 1));
+		
+		parallelFor(count, v -> comp[v] = v);
+		
+		while(mst.size() < count - 1) {
+			
+			//Find the cheapest edge leaving each component
+			parallelFor(count, v -> best.set(v, -1));
+			parallelFor(count, u -> {
+				int local = -1;
+				
+				for(int i = offsets[u]; i < offsets[u + 1]; i++) {
+					if(comp[targets[i]] != comp[u]) {
+						if(local == -1 || lighter(u, i, u, local, targets, weights)) {
+							local = i;
+						}
+					}
+				}
+				
+				if(local == -1) return;
+				
+				int c = comp[u];
+				int current = best.get(c);
+				while(current == -1 || lighter(u, local, source(offsets, current), 
+						current, targets, weights)) {
+					if(best.compareAndSet(c, current, local)) break;
+					current = best.get(c);
+				}
+			});
+			
+			//Join each component to the one its cheapest edge reaches. Two
+			//components which chose the same edge reach each other, and
+			//only the larger of the two joins, so each edge is added once.
+			parallelFor(count, c -> {
+				joined[c] = false;
+				if(comp[c] == c && best.get(c) != -1) {
+					int d = comp[targets[best.get(c)]];
+					int back = best.get(d);
+					if(back == -1 || comp[targets[back]] != c || c > d) {
+						joined[c] = sets.union(c, d);
+					}
+				}
+			});
+			
+			int added = 0;
+			for(int c = 0; c < count; c++) {
+				if(joined[c]) {
+					int i = best.get(c);
+					int u = source(offsets, i);
+					mst.addEdge(weights[i], Math.min(u, targets[i]), 
+							Math.max(u, targets[i]));
+					added++;
+				}
+			}
+			
+			//No edge leaves any component, so the graph is not connected
+			if(added == 0) break;
+			
+			//Contract every component into the root of its set
+			parallelFor(count, v -> comp[v] = sets.find(v));
+		}
+		
+		return mst;
+	}
+	
+	/**
+	 * Compare two directed edges by weight, then by their smaller
+	 * endpoint, then by their larger endpoint
+	 * @param u The source of the first edge
+	 * @param i The CSR index of the first edge
+	 * @param v The source of the second edge
+	 * @param j The CSR index of the second edge
+	 * @param targets The CSR edge targets
+	 * @param weights The CSR edge weights
+	 * @return Whether the first edge is lighter than the second
+	 */
+	private static boolean lighter(int u, int i, int v, int j, int[] targets, 
+			int[] weights) {
+		if(weights[i] != weights[j]) return weights[i] < weights[j];
+		
+		int lowI = Math.min(u, targets[i]);
+		int lowJ = Math.min(v, targets[j]);
+		if(lowI != lowJ) return lowI < lowJ;
+		
+		return Math.max(u, targets[i]) < Math.max(v, targets[j]);
+	}
+	
+	/**
+	 * Find the vertex a CSR edge leaves from
+	 * @param offsets The CSR row offsets
+	 * @param i The CSR index of the edge
+	 * @return The source vertex of the edge
+	 */
+	private static int source(int[] offsets, int i) {
+		int low = 0;
+		int high = offsets.length - 2;
+		
+		//Find the last row which starts at or before i
+		while(low < high) {
+			int mid = (low + high + 1) >>> 1;
+			if(offsets[mid] <= i) {
+				low = mid;
+			}
+			else {
+				high = mid - 1;
+			}
+		}
+		
+		return low;
+	}
+	
+	/**
+	 * Run a loop body over the indices 0 through n - 1 in parallel on
+	 * this object's pool
+	 * @param n The number of indices
+	 * @param body The loop body
+	 */
+	private void parallelFor(int n, IntConsumer body) {
+		pool.submit(() -> IntStream.range(0, n).parallel().forEach(body)).join();
+	}
+}
@@ -0,0 +1,345 @@
+package mst;
+
+import java.util.Arrays;
+
+/**
+ * The CSRGraph class stores an undirected, weighted graph in compressed
+ * sparse row form. The neighbors of vertex v are
+ * targets[offsets[v]] through targets[offsets[v+1] - 1], and the weight
+ * of each of those edges is held at the same index in weights. Every
+ * undirected edge appears once in each direction, the neighbors of each
+ * vertex are kept in ascending order, and no per-edge objects are
+ * created.
+ * @author Thomas LaSalle (tel5027)
+ */
+public class CSRGraph implements Adjacency {
+	
+	//Instance Variables
+	private int n, offsets[], targets[], weights[];
+	
+	/**
+	 * Construct a new CSRGraph from a list of undirected edges. The
+	 * edges are not checked for duplicates, which the generators never
+	 * produce.
+	 * @param n The number of vertices
+	 * @param edges The undirected edges, each listed once
+	 */
+	public CSRGraph(int n, EdgeList edges) {
+		this(n, edges, false);
+	}
+	
+	/**
+	 * Construct a new CSRGraph from a list of undirected edges, which may
+	 * repeat a pair of vertices if checkDuplicates is set. A repeated
+	 * pair is dropped, in either direction, keeping the first weight
+	 * given for it. The check costs O(1) per edge.
+	 * @param n The number of vertices
+	 * @param edges The undirected edges
+	 * @param checkDuplicates Whether to drop repeated pairs of vertices
+	 */
+	public CSRGraph(int n, EdgeList edges, boolean checkDuplicates) {
+		this.n = n;
+		int m = edges.size();
+		int[] w = edges.getWeights();
+		int[] s = edges.getStartVertices();
+		int[] e = edges.getEndVertices();
+		
+		offsets = new int[n + 1];
+		targets = new int[2 * m];
+		weights = new int[2 * m];
+		
+		//Count the degree of each vertex
+		for(int i = 0; i < m; i++) {
+			offsets[s[i] + 1]++;
+			offsets[e[i] + 1]++;
+		}
+		
+		for(int i = 0; i < n; i++) {
+			offsets[i + 1] += offsets[i];
+		}
+		
+		//Fill each vertex's slice of the arrays
+		int[] next = Arrays.copyOf(offsets, n);
+		
+		for(int i = 0; i < m; i++) {
+			targets[next[s[i]]] = e[i];
+			weights[next[s[i]]++] = w[i];
+			targets[next[e[i]]] = s[i];
+			weights[next[e[i]]++] = w[i];
+		}
+		
+		if(checkDuplicates) {
+			removeDuplicates();
+		}
+		
+		//Edges given in (start, end) order already leave every row sorted
+		for(int v = 0; v < n; v++) {
+			for(int i = offsets[v] + 1; i < offsets[v + 1]; i++) {
+				if(targets[i] < targets[i - 1]) {
+					sortRow(v);
+					break;
+				}
+			}
+		}
+	}
+	
+	/**
+	 * Drop every neighbor which already appears earlier in its row. Each
+	 * row is still in the order the edges were given, so the same edge
+	 * is kept at both of its ends. A target is marked with the row it was
+	 * last seen in, so the marks never need to be cleared.
+	 */
+	private void removeDuplicates() {
+		int[] seenIn = new int[n];
+		Arrays.fill(seenIn, -1);
+		int write = 0;
+		
+		for(int v = 0; v < n; v++) {
+			int from = offsets[v];
+			int to = offsets[v + 1];
+			offsets[v] = write;
+			
+			for(int i = from; i < to; i++) {
+				if(seenIn[targets[i]] != v) {
+					seenIn[targets[i]] = v;
+					targets[write] = targets[i];
+					weights[write++] = weights[i];
+				}
+			}
+		}
+		
+		offsets[n] = write;
+		if(write < targets.length) {
+			targets = Arrays.copyOf(targets, write);
+			weights = Arrays.copyOf(weights, write);
+		}
+	}
+	
+	/**
+	 * Sort the neighbors of a vertex into ascending order, keeping each
+	 * weight alongside its target
+	 * @param v The vertex whose row to sort
+	 */
+	private void sortRow(int v) {
+		for(int i = offsets[v] + 1; i < offsets[v + 1]; i++) {
+			int t = targets[i];
+			int w = weights[i];
+			int j = i;
+			
+			while(j > offsets[v] && targets[j - 1] > t) {
+				targets[j] = targets[j - 1];
+				weights[j] = weights[j - 1];
+				j--;
+			}
+			
+			targets[j] = t;
+			weights[j] = w;
+		}
+	}
+	
+	/**
+	 * Construct a new CSRGraph from an array of undirected edges
+	 * @param n The number of vertices
+	 * @param edges The undirected edges, each listed once
+	 */
+	public CSRGraph(int n, Edge[] edges) {
+		this(n, toEdgeList(edges));
+	}
+	
+	/**
+	 * Generate a random connected graph directly in CSR form. The result
+	 * has the same edges as a Graph built with the same parameters.
+	 * @param n The number of vertices in the graph
+	 * @param seed The random number generator seed
+	 * @param p The probability that two vertices are connected via an edge
+	 * @return The generated graph
+	 */
+	public static CSRGraph generate(int n, long seed, double p) {
+		return generate(n, seed, p, 0);
+	}
+	
+	/**
+	 * Generate a random connected graph directly in CSR form, giving up
+	 * after a limited number of disconnected attempts
+	 * @param n The number of vertices in the graph
+	 * @param seed The random number generator seed
+	 * @param p The probability that two vertices are connected via an edge
+	 * @param maxAttempts The number of graphs to try before giving up,
+	 *     or 0 to keep trying until a connected graph is found
+	 * @return The generated graph
+	 * @throws IllegalStateException if no connected graph was found
+	 *     within maxAttempts
+	 */
+	public static CSRGraph generate(int n, long seed, double p, int maxAttempts) {
+		GraphGenerator generator = new GraphGenerator(n, seed, p);
+		EdgeList edges = new EdgeList();
+		
+		generator.generateConnected(edges, maxAttempts);
+		
+		return new CSRGraph(n, edges);
+	}
+	
+	/**
+	 * Generate a random connected graph directly in CSR form, spreading
+	 * the work across the given number of threads. The result depends
+	 * only on n, seed and p, not on the number of threads, but differs
+	 * from the graph generate gives for the same parameters.
+	 * @param n The number of vertices in the graph
+	 * @param seed The random number generator seed
+	 * @param p The probability that two vertices are connected via an edge
+	 * @param threads The number of threads to generate with
+	 * @return The generated graph
+	 */
+	public static CSRGraph generateParallel(int n, long seed, double p, int threads) {
+		return generateParallel(n, seed, p, threads, 0);
+	}
+	
+	/**
+	 * Generate a random connected graph directly in CSR form on the
+	 * given number of threads, giving up after a limited number of
+	 * disconnected attempts
+	 * @param n The number of vertices in the graph
+	 * @param seed The random number generator seed
+	 * @param p The probability that two vertices are connected via an edge
+	 * @param threads The number of threads to generate with
+	 * @param maxAttempts The number of graphs to try before giving up,
+	 *     or 0 to keep trying until a connected graph is found
+	 * @return The generated graph
+	 * @throws IllegalStateException if no connected graph was found
+	 *     within maxAttempts
+	 */
+	public static CSRGraph generateParallel(int n, long seed, double p, int threads, int maxAttempts) {
+		ParallelGraphGenerator generator = new ParallelGraphGenerator(n, seed, p, threads);
+		EdgeList edges = new EdgeList();
+		
+		generator.generateConnected(edges, maxAttempts);
+		
+		return new CSRGraph(n, edges);
+	}
+	
+	/**
+	 * Copy an array of Edges into an EdgeList
+	 * @param edges The Edge array
+	 * @return The equivalent EdgeList
+	 */
+	private static EdgeList toEdgeList(Edge[] edges) {
+		EdgeList list = new EdgeList(edges.length);
+		
+		for(Edge e : edges) {
+			list.addEdge(e.getWeight(), e.getStartVertex(), e.getEndVertex());
+		}
+		
+		return list;
+	}
+	
+	/**
+	 * List every undirected edge once, as (start, end) with start less
+	 * than end, ordered by start vertex and then by end vertex
+	 * @return The list of edges
+	 */
+	public EdgeList getEdges() {
+		EdgeList list = new EdgeList(getEdgeCount());
+		
+		for(int u = 0; u < n; u++) {
+			for(int i = offsets[u]; i < offsets[u + 1]; i++) {
+				if(u < targets[i]) {
+					list.addEdge(weights[i], u, targets[i]);
+				}
+			}
+		}
+		
+		return list;
+	}
+	
+	/**
+	 * Get every undirected edge once, with u < v, packed into longs in
+	 * the same order as getEdges
+	 * @return An array holding exactly getEdgeCount() packed edges
+	 * @throws IllegalArgumentException If the graph has too many vertices
+	 *     or too large a weight to pack, see PackedEdge
+	 */
+	public long[] getPackedEdges() {
+		if(n - 1 > PackedEdge.MAX_VALUE) {
+			throw new IllegalArgumentException("Too many vertices to pack: " + n);
+		}
+		
+		long[] packed = new long[getEdgeCount()];
+		int k = 0;
+		
+		for(int u = 0; u < n; u++) {
+			for(int i = offsets[u]; i < offsets[u + 1]; i++) {
+				if(u < targets[i]) {
+					if(weights[i] < 0 || weights[i] > PackedEdge.MAX_VALUE) {
+						throw new IllegalArgumentException("Weight " + weights[i]
+								+ " is too large to pack");
+					}
+					packed[k++] = PackedEdge.pack(weights[i], u, targets[i]);
+				}
+			}
+		}
+		
+		return packed;
+	}
+	
+	@Override
+	public int firstEdge(int v) {
+		return (offsets[v] < offsets[v + 1]) ? offsets[v] : -1;
+	}
+	
+	@Override
+	public int nextEdge(int v, int cursor) {
+		return (cursor + 1 < offsets[v + 1]) ? cursor + 1 : -1;
+	}
+	
+	@Override
+	public int getTarget(int cursor) {
+		return targets[cursor];
+	}
+	
+	@Override
+	public int getVertexCount() {
+		return n;
+	}
+	
+	/**
+	 * Get the number of undirected edges in the graph
+	 * @return The number of edges
+	 */
+	public int getEdgeCount() {
+		return targets.length / 2;
+	}
+	
+	/**
+	 * Get the number of edges leaving a vertex
+	 * @param v The vertex
+	 * @return The degree of the vertex
+	 */
+	public int getDegree(int v) {
+		return offsets[v + 1] - offsets[v];
+	}
+	
+	/**
+	 * Get the row offsets. The edges of vertex v occupy indices
+	 * offsets[v] through offsets[v+1] - 1 of the target and weight arrays.
+	 * @return The row offsets, of length n + 1
+	 */
+	public int[] getOffsets() {
+		return offsets;
+	}
+	
+	/**
+	 * Get the target vertex of every directed edge
+	 * @return The edge targets
+	 */
+	public int[] getTargets() {
+		return targets;
+	}
+	
+	/**
+	 * Get the weight of every directed edge
+	 * @return The edge weights
+	 */
+	public int[] getWeights() {
+		return weights;
+	}
+}
@@ -0,0 +1,124 @@
+package mst;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+
+/**
+ * The ConcurrentDisjointSet class provides a lock-free union-find
+ * structure over the vertices 0 through n - 1 which many threads may
+ * find and union in at the same time. Parent links are held in an
+ * AtomicIntegerArray and only ever changed with compare-and-set: find
+ * uses iterative path halving, and union links the root with the larger
+ * index beneath the root with the smaller index, so links always point
+ * toward smaller indices and no cycle can form. Nothing is allocated
+ * after construction.
+ * @author Thomas LaSalle (tel5027)
+ */
+public class ConcurrentDisjointSet {
+	
+	//Instance variables
+	private AtomicIntegerArray parent;
+	private AtomicInteger components;
+	
+	/**
+	 * Construct a new ConcurrentDisjointSet in which every vertex is in
+	 * its own set
+	 * @param n The number of vertices
+	 */
+	public ConcurrentDisjointSet(int n) {
+		parent = new AtomicIntegerArray(n);
+		components = new AtomicInteger();
+		reset();
+	}
+	
+	/**
+	 * Reset every vertex to its own set for easier reuse. This must not
+	 * run at the same time as any other operation.
+	 */
+	public void reset() {
+		for(int i = 0; i < parent.length(); i++) {
+			parent.set(i, i);
+		}
+		components.set(parent.length());
+	}
+	
+	/**
+	 * Find the root of the set containing the given vertex, pointing
+	 * vertices on the path at their grandparents as it goes
+	 * @param index The index of the vertex
+	 * @return The index of the root of the set containing the vertex
+	 *     at some moment during the call
+	 */
+	public int find(int index) {
+		int i = index;
+		
+		while(true) {
+			int p = parent.get(i);
+			if(p == i) return i;
+			
+			int gp = parent.get(p);
+			if(p != gp) {
+				//A failed exchange just means another thread moved i first
+				parent.compareAndSet(i, p, gp);
+			}
+			i = gp;
+		}
+	}
+	
+	/**
+	 * Union combines the sets containing two vertices
+	 * @param start The start vertex
+	 * @param end The end vertex
+	 * @return Whether this call joined two different sets; of several
+	 *     threads joining the same two sets, exactly one gets true
+	 */
+	public boolean union(int start, int end) {
+		int first = start;
+		int last = end;
+		
+		while(true) {
+			first = find(first);
+			last = find(last);
+			
+			if(first == last) return false;
+			
+			int low = Math.min(first, last);
+			int high = Math.max(first, last);
+			
+			//Retry if high stopped being a root before it could be linked
+			if(parent.compareAndSet(high, high, low)) {
+				components.decrementAndGet();
+				return true;
+			}
+		}
+	}
+	
+	/**
+	 * Check to see if two vertices are in the same set
+	 * @param start The start vertex
+	 * @param end The end vertex
+	 * @return Whether the vertices are in the same set
+	 */
+	public boolean connected(int start, int end) {
+		int first = start;
+		int last = end;
+		
+		while(true) {
+			first = find(first);
+			last = find(last);
+			
+			if(first == last) return true;
+			
+			//If first is still a root, the two roots were distinct at once
+			if(parent.get(first) == first) return false;
+		}
+	}
+	
+	/**
+	 * Get the number of disjoint sets
+	 * @return The number of sets
+	 */
+	public int getComponentCount() {
+		return components.get();
+	}
+}
@@ -0,0 +1,143 @@
+package mst;
+
+/**
+ * Class DaryHeap provides an implementation of an indexed Priority
+ * Queue as a d-ary min heap. A wider heap is shallower, which makes
+ * decreaseKey cheaper at the cost of comparing more children on each
+ * delete; a 4-ary heap is usually a good fit for Prim's algorithm on
+ * dense graphs.
+ * @author Thomas LaSalle (tel5027)
+ */
+public class DaryHeap implements IndexedPriorityQueue {
+	
+	//Instance Variables
+	private int heap[], qp[], keys[];
+	private int size, d;
+	
+	/**
+	 * Initialize an empty 4-ary Priority Queue with the provided capacity
+	 * @param capacity The number of distinct vertex IDs
+	 */
+	public DaryHeap(int capacity) {
+		this(capacity, 4);
+	}
+	
+	/**
+	 * Initialize an empty d-ary Priority Queue with the provided capacity
+	 * @param capacity The number of distinct vertex IDs
+	 * @param d The number of children of each heap node
+	 */
+	public DaryHeap(int capacity, int d) {
+		if(d < 2) {
+			throw new IllegalArgumentException("d must be at least 2");
+		}
+		
+		this.d = d;
+		heap = new int[capacity];
+		qp = new int[capacity];
+		keys = new int[capacity];
+		size = 0;
+		
+		for(int i = 0; i < capacity; i++) {
+			qp[i] = -1;
+		}
+	}
+	
+	/**
+	 * Swim an item up the Priority Queue until the min heap is valid.
+	 * The item is held aside and parents are shifted down, rather than
+	 * exchanged, to halve the number of writes.
+	 * @param k The index of the item to swim up
+	 */
+	private void swim(int k) {
+		int id = heap[k];
+		int key = keys[id];
+		
+		while(k > 0) {
+			int parent = (k - 1) / d;
+			if(keys[heap[parent]] <= key) break;
+			heap[k] = heap[parent];
+			qp[heap[k]] = k;
+			k = parent;
+		}
+		
+		heap[k] = id;
+		qp[id] = k;
+	}
+	
+	/**
+	 * Sink an item down the Priority Queue until the min heap is valid
+	 * @param k The index of the item to sink down
+	 */
+	private void sink(int k) {
+		int id = heap[k];
+		int key = keys[id];
+		
+		while(true) {
+			int first = (d * k) + 1;
+			if(first >= size) break;
+			
+			//Find the smallest child
+			int last = Math.min(first + d, size);
+			int min = first;
+			for(int j = first + 1; j < last; j++) {
+				if(keys[heap[j]] < keys[heap[min]]) min = j;
+			}
+			
+			if(keys[heap[min]] >= key) break;
+			heap[k] = heap[min];
+			qp[heap[k]] = k;
+			k = min;
+		}
+		
+		heap[k] = id;
+		qp[id] = k;
+	}
+	
+	@Override
+	public void insert(int id, int priority) {
+		heap[size] = id;
+		keys[id] = priority;
+		swim(size++);
+	}
+	
+	@Override
+	public int delete() {
+		int min = heap[0];
+		
+		size--;
+		if(size > 0) {
+			heap[0] = heap[size];
+			sink(0);
+		}
+		qp[min] = -1;
+		
+		return min;
+	}
+	
+	@Override
+	public void decreaseKey(int id, int priority) {
+		keys[id] = priority;
+		swim(qp[id]);
+	}
+	
+	@Override
+	public boolean contains(int id) {
+		return qp[id] != -1;
+	}
+	
+	@Override
+	public int getPriority(int id) {
+		return keys[id];
+	}
+	
+	@Override
+	public int size() {
+		return size;
+	}
+	
+	@Override
+	public boolean isEmpty() {
+		return size == 0;
+	}
+}
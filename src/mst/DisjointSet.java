@@ -0,0 +1,90 @@
+package mst;
+
+/**
+ * The DisjointSet class provides a union-find structure over the
+ * vertices 0 through n - 1, using union-by-rank and iterative path
+ * halving, and keeps a running count of the number of sets.
+ * @author Thomas LaSalle (tel5027)
+ */
+public class DisjointSet {
+	
+	//Instance variables
+	private int parent[];
+	private byte rank[];
+	private int components;
+	
+	/**
+	 * Construct a new DisjointSet in which every vertex is in
+	 * its own set
+	 * @param n The number of vertices
+	 */
+	public DisjointSet(int n) {
+		parent = new int[n];
+		rank = new byte[n];
+		reset();
+	}
+	
+	/**
+	 * Reset every vertex to its own set for easier reuse
+	 */
+	public void reset() {
+		for(int i = 0; i < parent.length; i++) {
+			parent[i] = i;
+			rank[i] = 0;
+		}
+		components = parent.length;
+	}
+	
+	/**
+	 * Find the root of the set containing the given vertex, pointing
+	 * every other vertex on the path at its grandparent as it goes
+	 * @param index The index of the vertex
+	 * @return The index of the root of the set containing the vertex
+	 */
+	public int find(int index) {
+		int i = index;
+		
+		while(i != parent[i]) {
+			parent[i] = parent[parent[i]];
+			i = parent[i];
+		}
+		
+		return i;
+	}
+	
+	/**
+	 * Union combines the sets containing two vertices, using a
+	 * union-by-rank heuristic to determine the new root of the set
+	 * @param start The start vertex
+	 * @param end The end vertex
+	 * @return Whether the vertices were in different sets
+	 */
+	public boolean union(int start, int end) {
+		int first = find(start);
+		int last = find(end);
+		
+		if(first == last) return false;
+		
+		if(rank[first] < rank[last]) {
+			parent[first] = last;
+		}
+		else if(rank[first] > rank[last]) {
+			parent[last] = first;
+		}
+		else {
+			parent[last] = first;
+			rank[first]++;
+		}
+		
+		components--;
+		return true;
+	}
+	
+	/**
+	 * Get the number of disjoint sets
+	 * @return The number of sets
+	 */
+	public int getComponentCount() {
+		return components;
+	}
+}
@@ -1,3 +1,4 @@
+package mst;
 
 /**
  * The Edge class represents an Edge in our random generated graph
@@ -0,0 +1,164 @@
+package mst;
+
+import java.util.Arrays;
+
+/**
+ * The EdgeList class stores a list of undirected edges in three
+ * parallel primitive arrays (weight, start vertex, end vertex), so that
+ * large graphs and spanning trees can be held without creating an
+ * Edge object per edge.
+ * @author Thomas LaSalle (tel5027)
+ */
+public class EdgeList implements EdgeSink {
+	
+	//Instance Variables
+	private int weights[], starts[], ends[];
+	private int size;
+	
+	//Constants
+	private final int DEFAULT_CAPACITY = 16;
+	
+	/**
+	 * Construct a new, empty EdgeList
+	 */
+	public EdgeList() {
+		weights = new int[DEFAULT_CAPACITY];
+		starts = new int[DEFAULT_CAPACITY];
+		ends = new int[DEFAULT_CAPACITY];
+		size = 0;
+	}
+	
+	/**
+	 * Construct a new, empty EdgeList with room for the given number
+	 * of edges
+	 * @param capacity The initial capacity
+	 */
+	public EdgeList(int capacity) {
+		weights = new int[Math.max(capacity, 1)];
+		starts = new int[Math.max(capacity, 1)];
+		ends = new int[Math.max(capacity, 1)];
+		size = 0;
+	}
+	
+	/**
+	 * Construct an EdgeList which wraps the given arrays. The arrays
+	 * are not copied.
+	 * @param weights The edge weights
+	 * @param starts The start vertices
+	 * @param ends The end vertices
+	 * @param size The number of edges held in the arrays
+	 */
+	public EdgeList(int[] weights, int[] starts, int[] ends, int size) {
+		this.weights = weights;
+		this.starts = starts;
+		this.ends = ends;
+		this.size = size;
+	}
+	
+	@Override
+	public void addEdge(int weight, int start, int end) {
+		if(size == weights.length) {
+			int capacity = 2 * size;
+			weights = Arrays.copyOf(weights, capacity);
+			starts = Arrays.copyOf(starts, capacity);
+			ends = Arrays.copyOf(ends, capacity);
+		}
+		
+		weights[size] = weight;
+		starts[size] = start;
+		ends[size] = end;
+		size++;
+	}
+	
+	/**
+	 * Remove every edge from the list, keeping its capacity
+	 */
+	public void clear() {
+		size = 0;
+	}
+	
+	/**
+	 * Get the number of edges in the list
+	 * @return The number of edges
+	 */
+	public int size() {
+		return size;
+	}
+	
+	/**
+	 * Get the weight of an edge
+	 * @param i The index of the edge
+	 * @return The edge weight
+	 */
+	public int getWeight(int i) {
+		return weights[i];
+	}
+	
+	/**
+	 * Get the starting vertex of an edge
+	 * @param i The index of the edge
+	 * @return The start vertex
+	 */
+	public int getStartVertex(int i) {
+		return starts[i];
+	}
+	
+	/**
+	 * Get the ending vertex of an edge
+	 * @param i The index of the edge
+	 * @return The end vertex
+	 */
+	public int getEndVertex(int i) {
+		return ends[i];
+	}
+	
+	/**
+	 * Get the backing array of edge weights. Only the first size()
+	 * entries are valid.
+	 * @return The edge weights
+	 */
+	public int[] getWeights() {
+		return weights;
+	}
+	
+	/**
+	 * Get the backing array of start vertices. Only the first size()
+	 * entries are valid.
+	 * @return The start vertices
+	 */
+	public int[] getStartVertices() {
+		return starts;
+	}
+	
+	/**
+	 * Get the backing array of end vertices. Only the first size()
+	 * entries are valid.
+	 * @return The end vertices
+	 */
+	public int[] getEndVertices() {
+		return ends;
+	}
+	
+	/**
+	 * Sum the weights of every edge in the list
+	 * @return The total weight
+	 */
+	public long getTotalWeight() {
+		long sum = 0;
+		
+		for(int i = 0; i < size; i++) {
+			sum += weights[i];
+		}
+		
+		return sum;
+	}
+	
+	/**
+	 * Format an edge in the same way as Edge.toString
+	 * @param i The index of the edge
+	 * @return The formatted edge
+	 */
+	public String toString(int i) {
+		return "" + starts[i] + " " + ends[i] + " weight = " + weights[i];
+	}
+}
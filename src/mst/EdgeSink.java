@@ -0,0 +1,19 @@
+package mst;
+
+/**
+ * The EdgeSink interface receives the edges of a graph as they are
+ * generated, allowing the same generator to fill any graph
+ * representation.
+ * @author Thomas LaSalle (tel5027)
+ */
+public interface EdgeSink {
+	
+	/**
+	 * Receive an undirected edge. Each pair of vertices is given to
+	 * the sink at most once.
+	 * @param weight The edge weight
+	 * @param start The starting vertex
+	 * @param end The ending vertex
+	 */
+	public void addEdge(int weight, int start, int end);
+}
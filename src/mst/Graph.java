@@ -0,0 +1,742 @@
+package mst;
+
+import java.io.ByteArrayOutputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Future;
+
+/**
+ * The Graph class randomly generates an
+ * undirected, connected graph, based on provided data,
+ * prints the graph, as well as perform a Depth-First search of the
+ * graph.
+ * @author Thomas LaSalle (tel5027)
+ */
+public class Graph implements EdgeSink {
+	
+	//Instance Variables
+	private ArrayList<Edge> edges;
+	private EdgeList edgeList;
+	private AdjacencyMatrix edgeMatrix;
+	
+	private int n, maxAttempts;
+	private double p;
+	
+	private Traversal search;
+	
+	private SortAlgorithm sort = new SortAlgorithm();
+	private GraphWriter out;
+	
+	private long seed, sTime, fTime, tTime;
+	
+	private CSRGraph csr;
+	private MSTSelector selector;
+	private int threads, generatorThreads;
+	private boolean printAll;
+	
+	//Constants
+	private final int INFINITY = Integer.MAX_VALUE;
+	
+	/**
+	 * Generate a new random graph with the given data
+	 * @param n The number of vertices in the graph
+	 * @param seed The random number generator seed
+	 * @param p The probability that two vertices are connected via an edge
+	 */
+	public Graph(int n, long seed, double p) {
+		this(n, seed, p, 0);
+	}
+	
+	/**
+	 * Generate a new random graph with the given data, giving up if no
+	 * connected graph is found within the given number of attempts
+	 * @param n The number of vertices in the graph
+	 * @param seed The random number generator seed
+	 * @param p The probability that two vertices are connected via an edge
+	 * @param maxAttempts The number of graphs to try before giving up,
+	 *     or 0 to keep trying until a connected graph is found
+	 * @throws IllegalStateException if no connected graph was found
+	 *     within maxAttempts; the message reports the number of
+	 *     components in the last graph tried
+	 */
+	public Graph(int n, long seed, double p, int maxAttempts) {
+		this(n, seed, p, maxAttempts, null);
+	}
+	
+	/**
+	 * Generate a new random graph with the given data. If a selector is
+	 * given, only the minimum spanning tree algorithm it chooses is run,
+	 * rather than every variant.
+	 * @param n The number of vertices in the graph
+	 * @param seed The random number generator seed
+	 * @param p The probability that two vertices are connected via an edge
+	 * @param maxAttempts The number of graphs to try before giving up,
+	 *     or 0 to keep trying until a connected graph is found
+	 * @param selector The algorithm selector, or null to run every variant
+	 * @throws IllegalStateException if no connected graph was found
+	 *     within maxAttempts
+	 */
+	public Graph(int n, long seed, double p, int maxAttempts, MSTSelector selector) {
+		this(n, seed, p, maxAttempts, selector, 1);
+	}
+	
+	/**
+	 * Generate a new random graph with the given data. If a selector is
+	 * given, only the minimum spanning tree algorithm it chooses is run;
+	 * otherwise every variant is run, on a pool of the given number of
+	 * threads when that is more than one.
+	 * @param n The number of vertices in the graph
+	 * @param seed The random number generator seed
+	 * @param p The probability that two vertices are connected via an edge
+	 * @param maxAttempts The number of graphs to try before giving up,
+	 *     or 0 to keep trying until a connected graph is found
+	 * @param selector The algorithm selector, or null to run every variant
+	 * @param threads The number of variants to run at once
+	 * @throws IllegalStateException if no connected graph was found
+	 *     within maxAttempts
+	 */
+	public Graph(int n, long seed, double p, int maxAttempts, MSTSelector selector, int threads) {
+		this(n, seed, p, maxAttempts, selector, threads, System.out);
+	}
+	
+	/**
+	 * Generate a new random graph with the given data, writing the
+	 * report to the given stream rather than to the console
+	 * @param n The number of vertices in the graph
+	 * @param seed The random number generator seed
+	 * @param p The probability that two vertices are connected via an edge
+	 * @param maxAttempts The number of graphs to try before giving up,
+	 *     or 0 to keep trying until a connected graph is found
+	 * @param selector The algorithm selector, or null to run every variant
+	 * @param threads The number of variants to run at once
+	 * @param output The stream to write the report to
+	 * @throws IllegalStateException if no connected graph was found
+	 *     within maxAttempts
+	 */
+	public Graph(int n, long seed, double p, int maxAttempts, MSTSelector selector, int threads, 
+			OutputStream output) {
+		this(n, seed, p, maxAttempts, selector, threads, 0, output);
+	}
+	
+	/**
+	 * Generate a new random graph with the given data, generating it on
+	 * several threads with a ParallelGraphGenerator. That graph is the
+	 * same for any number of generator threads, but is not the graph the
+	 * single-threaded GraphGenerator gives for the same seed.
+	 * @param n The number of vertices in the graph
+	 * @param seed The random number generator seed
+	 * @param p The probability that two vertices are connected via an edge
+	 * @param maxAttempts The number of graphs to try before giving up,
+	 *     or 0 to keep trying until a connected graph is found
+	 * @param selector The algorithm selector, or null to run every variant
+	 * @param threads The number of variants to run at once
+	 * @param generatorThreads The number of threads to generate the graph
+	 *     with, or 0 to use the single-threaded GraphGenerator
+	 * @param output The stream to write the report to
+	 * @throws IllegalStateException if no connected graph was found
+	 *     within maxAttempts
+	 */
+	public Graph(int n, long seed, double p, int maxAttempts, MSTSelector selector, int threads, 
+			int generatorThreads, OutputStream output) {
+		this(n, seed, p, maxAttempts, selector, threads, generatorThreads, false, output);
+	}
+	
+	/**
+	 * Generate a new random graph with the given data, optionally
+	 * printing its adjacency list, search and minimum spanning trees
+	 * however many vertices it has. The adjacency matrix is still only
+	 * printed for fewer than 10 vertices, since it holds n^2 cells.
+	 * @param n The number of vertices in the graph
+	 * @param seed The random number generator seed
+	 * @param p The probability that two vertices are connected via an edge
+	 * @param maxAttempts The number of graphs to try before giving up,
+	 *     or 0 to keep trying until a connected graph is found
+	 * @param selector The algorithm selector, or null to run every variant
+	 * @param threads The number of variants to run at once
+	 * @param generatorThreads The number of threads to generate the graph
+	 *     with, or 0 to use the single-threaded GraphGenerator
+	 * @param printAll Whether to print the graph and its trees for any n,
+	 *     rather than only for fewer than 10 vertices
+	 * @param output The stream to write the report to
+	 * @throws IllegalStateException if no connected graph was found
+	 *     within maxAttempts
+	 */
+	public Graph(int n, long seed, double p, int maxAttempts, MSTSelector selector, int threads, 
+			int generatorThreads, boolean printAll, OutputStream output) {
+		this.n = n;
+		this.seed = seed;
+		this.p = p;
+		this.maxAttempts = maxAttempts;
+		this.selector = selector;
+		this.threads = threads;
+		this.generatorThreads = generatorThreads;
+		this.printAll = printAll;
+		out = new GraphWriter(output);
+		
+		edges = new ArrayList<Edge>();
+		
+		edgeList = new EdgeList();
+		
+		generateGraph();
+	}
+	
+	/**
+	 * addEdge adds an edge to the graph. Each undirected edge is stored
+	 * once, in the direction it was given.
+	 * @param weight The edge weight
+	 * @param start The starting vertex
+	 * @param end The ending vertex
+	 */
+	@Override
+	public void addEdge(int weight, int start, int end) {
+		edges.add(new Edge(weight, start, end));
+	}
+	
+	/**
+	 * generateGraph generates the random graph, provides the amount
+	 * of time it takes to create the graph, and then prints the data.
+	 * It runs once, from the constructor, since it releases the edge
+	 * list once the CSR graph has been built.
+	 */
+	private void generateGraph() {
+		sTime = System.currentTimeMillis();
+		
+		//The generator tracks connectivity as it goes, so a disconnected
+		//graph is discarded without building or searching it
+		if(generatorThreads > 0) {
+			new ParallelGraphGenerator(n, seed, p, generatorThreads).generateConnected(edgeList, maxAttempts);
+		}
+		else {
+			new GraphGenerator(n, seed, p).generateConnected(edgeList, maxAttempts);
+		}
+		
+		csr = new CSRGraph(n, edgeList);
+		
+		//The Edge objects are only needed by the Kruskal variants which
+		//sort Edge arrays, and those only run when every variant does
+		if(selector == null) {
+			edges.ensureCapacity(edgeList.size());
+			for(int i = 0; i < edgeList.size(); i++) {
+				addEdge(edgeList.getWeight(i), edgeList.getStartVertex(i), 
+						edgeList.getEndVertex(i));
+			}
+		}
+		
+		edgeList = null;
+		search = Traversal.dfs(csr, 0);
+		
+		fTime = System.currentTimeMillis();
+		tTime = fTime - sTime;
+		
+		//Print the data and perform the MST algorithms
+		//printing their data as well
+		printData();
+		
+		if(selector != null) {
+			performSelectedAlg();
+			return;
+		}
+		
+		if(threads > 1) {
+			performConcurrently(threads);
+			return;
+		}
+		
+		performKruskalAlg();
+		performPrimsAlg();
+		performCSRAlgs();
+	}
+	
+	/**
+	 * getCSRGraph returns the compressed sparse row representation of
+	 * the graph, which may be passed to a GraphWriter to write out
+	 * graphs of any size
+	 * @return The CSR graph
+	 */
+	public CSRGraph getCSRGraph() {
+		return csr;
+	}
+	
+	/**
+	 * getAdjacencyMatrix returns the compact adjacency matrix of the
+	 * graph, building it from the CSR representation the first time it
+	 * is needed
+	 * @return The adjacency matrix
+	 */
+	public AdjacencyMatrix getAdjacencyMatrix() {
+		if(edgeMatrix == null) {
+			edgeMatrix = new AdjacencyMatrix(csr);
+		}
+		
+		return edgeMatrix;
+	}
+	
+	/**
+	 * Print all relevant data about the graph to the user, including
+	 * the adjacency matrix, adjacency list and Depth-First search for
+	 * small graphs, or the list and search alone for larger graphs when
+	 * printing was asked for
+	 */
+	public void printData() {
+		out.println("TEST: n=" + n + ", seed=" + seed + ", p=" + p);
+		out.println("Time to generate the graph: " + tTime + " milliseconds");
+		out.println();
+		
+		//If the number of vertices is less than 10, we print the Adjacency Matrix/List
+		//to the user.
+		if(n < 10) {
+			out.println("The graph as an adjacency matrix:");
+			out.println();
+			out.writeAdjacencyMatrix(getAdjacencyMatrix());
+			out.println("The graph as an adjacency list:");
+			out.println();
+			out.writeAdjacencyList(csr);
+			out.writeSearch(search);
+		}
+		else if(printAll) {
+			out.println("The graph as an adjacency list:");
+			out.println();
+			out.writeAdjacencyList(csr);
+			out.writeSearch(search);
+		}
+		
+		out.flush();
+	}
+	
+	/**
+	 * getEdges returns the Edge Adjacency list, which holds each
+	 * undirected edge of the graph once
+	 * @return The edges, which may not be modified
+	 */
+	public List<Edge> getEdges() {
+		return Collections.unmodifiableList(edges);
+	}
+	
+	/**
+	 * Converts the Adjacency Matrix into a 1D array of Edges for sorting,
+	 * listing each undirected edge once
+	 * @param matrix The Adjacency Matrix
+	 * @return A 1D array of the Edges present in the Adjacency Matrix
+	 */
+	public Edge[] convert2DArray(AdjacencyMatrix matrix){
+		Edge[] edgeArray = new Edge[csr.getEdgeCount()];
+		int j = 0;
+		
+		for(int x = 0; x < n; x++) {
+			for(int y = matrix.nextNeighbor(x, (x + 1)); y != -1; 
+					y = matrix.nextNeighbor(x, (y + 1))) {
+				edgeArray[j] = new Edge(matrix.getWeight(x, y), x, y);
+				j++;
+			}
+		}
+		
+		return edgeArray;
+	}
+	
+	/**
+	 * Sort both the Adjacency Matrix and Adjacency List of edges using
+	 * three different sorting algorithms (Insertion Sort, Count Sort, 
+	 * and Quick Sort). Also, obtain a minimum spanning tree from the
+	 * graphs, sum the weights of all of the edges in the MST and
+	 * provide a runtime for each.
+	 * Print the edges contained in the MST, summation and runtime with proper 
+	 * formatting.
+	 */
+	public void performKruskalAlg(){
+		runSequentially(kruskalVariants());
+	}
+	
+	/**
+	 * Perform Prim's Algorithm on the randomly generated graph to
+	 * obtain a minimum spanning tree from the graph.
+	 * Sum the weights of the edges in the MST, provide a runtime, and
+	 * print the results to the console.
+	 */
+	public void performPrimsAlg(){
+		runSequentially(primVariants());
+	}
+	
+	/**
+	 * Perform Kruskal's, Prim's and parallel Boruvka's Algorithms on the
+	 * compressed sparse row representation of the graph, which creates
+	 * no Edge objects. Sum the weights of the edges in each MST, provide a
+	 * runtime, and print the results to the console.
+	 */
+	public void performCSRAlgs(){
+		runSequentially(csrVariants());
+	}
+	
+	/**
+	 * Perform every Kruskal, Prim and Boruvka variant at the same time
+	 * on a pool of the given number of threads. Each variant works on
+	 * its own algorithm objects and writes its results to its own
+	 * buffer, and nothing it changes is shared with the others; the
+	 * results are printed in the usual order once all of them finish.
+	 * Each runtime covers only its own variant, but variants which run
+	 * side by side compete for the same cores.
+	 * @param threads The number of variants to run at once
+	 * @throws IllegalStateException if a variant fails
+	 */
+	public void performConcurrently(int threads){
+		List<Callable<String>> variants = new ArrayList<Callable<String>>();
+		variants.addAll(kruskalVariants());
+		variants.addAll(primVariants());
+		variants.addAll(csrVariants());
+		
+		ForkJoinPool pool = new ForkJoinPool(threads);
+		
+		try {
+			for(Future<String> f : pool.invokeAll(variants)) {
+				out.print(f.get());
+			}
+		}
+		catch(InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new IllegalStateException("MST variants were interrupted", e);
+		}
+		catch(ExecutionException e) {
+			throw new IllegalStateException("MST variant failed", e.getCause());
+		}
+		finally {
+			pool.shutdown();
+		}
+		
+		out.flush();
+	}
+	
+	/**
+	 * Run variants one after another, printing each one's results as
+	 * soon as it finishes
+	 * @param variants The variants to run
+	 * @throws IllegalStateException if a variant fails
+	 */
+	private void runSequentially(List<Callable<String>> variants){
+		try {
+			for(Callable<String> variant : variants) {
+				out.print(variant.call());
+				out.flush();
+			}
+		}
+		catch(RuntimeException e) {
+			throw e;
+		}
+		catch(Exception e) {
+			throw new IllegalStateException("MST variant failed", e);
+		}
+	}
+	
+	/**
+	 * Build Kruskal's Algorithm on the Adjacency Matrix and Adjacency
+	 * List of edges, each sorted by Insertion Sort, Count Sort and
+	 * Quick Sort
+	 * @return The variants, in the order they are reported
+	 */
+	private List<Callable<String>> kruskalVariants(){
+		final AdjacencyMatrix matrix = getAdjacencyMatrix();
+		List<Callable<String>> variants = new ArrayList<Callable<String>>();
+		
+		variants.add(() -> {
+			Kruskal kruskal = new Kruskal(n);
+			long startTime = System.currentTimeMillis();
+			ArrayList<Edge> mst = kruskal.KruskalMST(sort.insertionSort(convert2DArray(matrix)));
+			long finishTime = System.currentTimeMillis();
+			
+			return report("KRUSKAL WITH MATRIX USING INSERTION SORT", "Kruskal", 
+					toEdgeList(mst), (finishTime - startTime), null);
+		});
+		
+		variants.add(() -> {
+			Kruskal kruskal = new Kruskal(n);
+			long startTime = System.currentTimeMillis();
+			ArrayList<Edge> mst = kruskal.KruskalMST(sort.countSort(convert2DArray(matrix), n));
+			long finishTime = System.currentTimeMillis();
+			
+			return report("KRUSKAL WITH MATRIX USING COUNT SORT", "Kruskal", 
+					toEdgeList(mst), (finishTime - startTime), null);
+		});
+		
+		variants.add(() -> {
+			Kruskal kruskal = new Kruskal(n);
+			long startTime = System.currentTimeMillis();
+			Edge[] matrixEdges = convert2DArray(matrix);
+			ArrayList<Edge> mst = kruskal.KruskalMST(sort.quickSort(matrixEdges, 0, 
+					(matrixEdges.length-1)));
+			long finishTime = System.currentTimeMillis();
+			
+			return report("KRUSKAL WITH MATRIX USING QUICKSORT", "Kruskal", 
+					toEdgeList(mst), (finishTime - startTime), null);
+		});
+		
+		variants.add(() -> {
+			Kruskal kruskal = new Kruskal(n);
+			long startTime = System.currentTimeMillis();
+			ArrayList<Edge> mst = kruskal.KruskalMST(sort.insertionSort(edges.toArray(new Edge[edges.size()])));
+			long finishTime = System.currentTimeMillis();
+			
+			return report("KRUSKAL WITH LIST USING INSERTION SORT", "Kruskal", 
+					toEdgeList(mst), (finishTime - startTime), null);
+		});
+		
+		variants.add(() -> {
+			Kruskal kruskal = new Kruskal(n);
+			long startTime = System.currentTimeMillis();
+			ArrayList<Edge> mst = kruskal.KruskalMST(sort.countSort(edges.toArray(new Edge[edges.size()]), n));
+			long finishTime = System.currentTimeMillis();
+			
+			return report("KRUSKAL WITH LIST USING COUNT SORT", "Kruskal", 
+					toEdgeList(mst), (finishTime - startTime), null);
+		});
+		
+		variants.add(() -> {
+			Kruskal kruskal = new Kruskal(n);
+			long startTime = System.currentTimeMillis();
+			ArrayList<Edge> mst = kruskal.KruskalMST(sort.quickSort(edges.toArray(new Edge[edges.size()]), 0, 
+					(edges.size()-1)));
+			long finishTime = System.currentTimeMillis();
+			
+			return report("KRUSKAL WITH LIST USING QUICKSORT", "Kruskal", 
+					toEdgeList(mst), (finishTime - startTime), null);
+		});
+		
+		return variants;
+	}
+	
+	/**
+	 * Build Prim's Algorithm on the Adjacency Matrix and the Adjacency
+	 * List of edges. Neither changes the graph, so both may run at once.
+	 * @return The variants, in the order they are reported
+	 */
+	private List<Callable<String>> primVariants(){
+		final AdjacencyMatrix matrix = getAdjacencyMatrix();
+		List<Callable<String>> variants = new ArrayList<Callable<String>>();
+		
+		variants.add(() -> {
+			if(!AdjacencyMatrix.weightMatrixFits(n)) {
+				return skipped("PRIM WITH ADJACENCY MATRIX", 
+						"the " + n + " x " + n + " weight matrix does not fit in memory");
+			}
+			
+			Prim prim = new Prim(n);
+			long startTime = System.currentTimeMillis();
+			EdgeList mst = prim.PrimMST(matrix.getWeightMatrix(INFINITY));
+			long finishTime = System.currentTimeMillis();
+			
+			return report("PRIM WITH ADJACENCY MATRIX", "Prim", mst, 
+					(finishTime - startTime), null);
+		});
+		
+		variants.add(() -> {
+			Prim prim = new Prim(n);
+			long startTime = System.currentTimeMillis();
+			EdgeList mst = prim.PrimMST(new CSRGraph(n, edges.toArray(new Edge[edges.size()])));
+			long finishTime = System.currentTimeMillis();
+			
+			return report("PRIM WITH ADJACENCY LIST", "Prim", mst, 
+					(finishTime - startTime), null);
+		});
+		
+		return variants;
+	}
+	
+	/**
+	 * Build Kruskal's, Prim's and parallel Boruvka's Algorithms on the
+	 * compressed sparse row representation of the graph
+	 * @return The variants, in the order they are reported
+	 */
+	private List<Callable<String>> csrVariants(){
+		List<Callable<String>> variants = new ArrayList<Callable<String>>();
+		
+		variants.add(() -> {
+			Kruskal kruskal = new Kruskal(n);
+			long startTime = System.currentTimeMillis();
+			EdgeList mst = kruskal.KruskalMST(sort.parallelCountSort(csr.getEdges()));
+			long finishTime = System.currentTimeMillis();
+			
+			return report("KRUSKAL WITH CSR USING COUNT SORT", "Kruskal", mst, 
+					(finishTime - startTime), null);
+		});
+		
+		variants.add(() -> {
+			Kruskal kruskal = new Kruskal(n);
+			long startTime = System.currentTimeMillis();
+			long[] packed = sort.radixSort(csr.getPackedEdges(), csr.getEdgeCount());
+			EdgeList mst = kruskal.KruskalMST(packed, packed.length);
+			long finishTime = System.currentTimeMillis();
+			
+			return report("KRUSKAL WITH PACKED EDGES USING RADIX SORT", "Kruskal", mst, 
+					(finishTime - startTime), null);
+		});
+		
+		//Regenerate the same graph straight into weight buckets, which
+		//leaves no sorting step. The generation is reported on its own,
+		//so that the runtime compares with the other variants
+		variants.add(() -> {
+			Kruskal kruskal = new Kruskal(n);
+			long genTime = System.currentTimeMillis();
+			WeightBuckets buckets = new WeightBuckets(n);
+			if(generatorThreads > 0) {
+				new ParallelGraphGenerator(n, seed, p, generatorThreads).generateConnected(buckets, maxAttempts);
+			}
+			else {
+				new GraphGenerator(n, seed, p).generateConnected(buckets, maxAttempts);
+			}
+			long startTime = System.currentTimeMillis();
+			EdgeList mst = kruskal.KruskalMST(buckets);
+			long finishTime = System.currentTimeMillis();
+			
+			return report("KRUSKAL WITH WEIGHT-BUCKETED GENERATION", "Kruskal", mst, 
+					(finishTime - startTime), "Time to generate the graph into buckets: " 
+					+ (startTime - genTime) + " milliseconds");
+		});
+		
+		variants.add(() -> {
+			Kruskal kruskal = new Kruskal(n);
+			long startTime = System.currentTimeMillis();
+			EdgeList mst = kruskal.FilterKruskalMST(csr.getEdges());
+			long finishTime = System.currentTimeMillis();
+			
+			return report("FILTER-KRUSKAL WITH CSR", "Kruskal", mst, 
+					(finishTime - startTime), null);
+		});
+		
+		variants.add(() -> {
+			Kruskal kruskal = new Kruskal(n);
+			long startTime = System.currentTimeMillis();
+			EdgeList mst = kruskal.LazyKruskalMST(csr.getEdges());
+			long finishTime = System.currentTimeMillis();
+			
+			return report("LAZY HEAP KRUSKAL WITH CSR", "Kruskal", mst, 
+					(finishTime - startTime), "Edges examined: " 
+					+ kruskal.getExaminedCount() + " of " + csr.getEdgeCount());
+		});
+		
+		variants.add(() -> {
+			Prim prim = new Prim(n);
+			long startTime = System.currentTimeMillis();
+			EdgeList mst = prim.PrimMST(csr);
+			long finishTime = System.currentTimeMillis();
+			
+			return report("PRIM WITH CSR", "Prim", mst, 
+					(finishTime - startTime), null);
+		});
+		
+		variants.add(() -> {
+			Boruvka boruvka = new Boruvka(n);
+			long startTime = System.currentTimeMillis();
+			EdgeList mst = boruvka.BoruvkaMST(csr);
+			long finishTime = System.currentTimeMillis();
+			
+			return report("PARALLEL BORUVKA WITH CSR", "Boruvka", mst, 
+					(finishTime - startTime), null);
+		});
+		
+		return variants;
+	}
+	
+	/**
+	 * Format the results of one variant: its title, the edges of the
+	 * MST for small graphs or when printing was asked for, the total weight and the runtime
+	 * @param title The name of the variant
+	 * @param algorithm The name of the MST algorithm used
+	 * @param mst The edges of the minimum spanning tree
+	 * @param runtime The runtime in milliseconds
+	 * @param note An extra line to report after the total weight, or null
+	 * @return The formatted results
+	 */
+	private String report(String title, String algorithm, EdgeList mst, long runtime, String note){
+		ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+		GraphWriter report = new GraphWriter(bytes);
+		
+		report.println("===================================");
+		report.println(title);
+		if(n < 10 || printAll) {
+			report.writeMST(mst);
+		}
+		report.println();
+		report.println("Total Weight of MST using " + algorithm + ": " 
+				+ mst.getTotalWeight());
+		if(note != null) {
+			report.println(note);
+		}
+		report.println("Runtime: " + runtime + " milliseconds");
+		report.flush();
+		
+		return new String(bytes.toByteArray(), StandardCharsets.US_ASCII);
+	}
+	
+	/**
+	 * Format the report of a variant which was not run
+	 * @param title The name of the variant
+	 * @param reason Why it was not run
+	 * @return The formatted report
+	 */
+	private String skipped(String title, String reason){
+		ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+		GraphWriter report = new GraphWriter(bytes);
+		
+		report.println("===================================");
+		report.println(title);
+		report.println();
+		report.println("Skipped: " + reason);
+		report.flush();
+		
+		return new String(bytes.toByteArray(), StandardCharsets.US_ASCII);
+	}
+	
+	/**
+	 * Copy a list of Edges into an EdgeList
+	 * @param list The Edges
+	 * @return The equivalent EdgeList
+	 */
+	private static EdgeList toEdgeList(List<Edge> list){
+		EdgeList edgeList = new EdgeList(list.size());
+		
+		for(Edge e : list) {
+			edgeList.addEdge(e.getWeight(), e.getStartVertex(), e.getEndVertex());
+		}
+		
+		return edgeList;
+	}
+	
+	/**
+	 * Perform only the minimum spanning tree algorithm the selector
+	 * chooses for the graph. Sum the weights of the edges in the MST,
+	 * provide a runtime, and print the results to the console.
+	 */
+	public void performSelectedAlg(){
+		long startTime, finishTime;
+		
+		MSTSelector.Strategy strategy = selector.select(csr);
+		
+		out.println("===================================");
+		out.println("SELECTED: " + strategy.getDescription().toUpperCase());
+		
+		startTime = System.currentTimeMillis();
+		EdgeList selectedMST = selector.run(strategy, csr);
+		finishTime = System.currentTimeMillis();
+		
+		printMST(selectedMST);
+		out.println("Total Weight of MST: " + selectedMST.getTotalWeight());
+		out.println("Runtime: " + (finishTime - startTime) 
+				+ " milliseconds");
+		out.flush();
+	}
+	
+	/**
+	 * Print the edges of a minimum spanning tree, if the graph is
+	 * small enough to be printed or printing was asked for
+	 * @param mst The edges of the minimum spanning tree
+	 */
+	private void printMST(EdgeList mst){
+		if(n < 10 || printAll) {
+			out.writeMST(mst);
+		}
+		out.println();
+	}
+}
\ No newline at end of file
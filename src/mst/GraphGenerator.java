@@ -0,0 +1,224 @@
+package mst;
+
+import java.util.Random;
+
+/**
+ * The GraphGenerator class produces the edges of a random graph with
+ * n vertices, where each pair of vertices is connected with probability
+ * p and each edge is given a weight uniformly chosen from [1, n].
+ * Successive calls to generate continue the same random sequences, so
+ * a caller may retry until it obtains a connected graph and still get
+ * the same result for a given seed. The generator tracks connectivity
+ * with a union-find as it emits edges, so the caller learns whether
+ * the graph is connected without a separate search.
+ * 
+ * When p is below the sparse threshold, the generator skips directly
+ * from one accepted pair to the next by drawing the geometrically
+ * distributed number of rejected pairs in between, which costs
+ * O(n + E) rather than O(n^2). Both modes are deterministic for a given
+ * seed, but they consume the random sequence differently and so do not
+ * produce the same graph as each other.
+ * @author Thomas LaSalle (tel5027)
+ */
+public class GraphGenerator {
+	
+	//Instance Variables
+	private Random edgeRand, weightRand;
+	private DisjointSet components;
+	private int n, attempts;
+	private double p, sparseThreshold;
+	
+	//Constants
+	private final int MIN_WEIGHT = 1;
+	
+	/**
+	 * The edge probability below which skip sampling is used by default
+	 */
+	public static final double DEFAULT_SPARSE_THRESHOLD = 0.1;
+	
+	/**
+	 * Construct a new generator for the given graph parameters
+	 * @param n The number of vertices in the graph
+	 * @param seed The random number generator seed
+	 * @param p The probability that two vertices are connected via an edge
+	 */
+	public GraphGenerator(int n, long seed, double p) {
+		this(n, seed, p, DEFAULT_SPARSE_THRESHOLD);
+	}
+	
+	/**
+	 * Construct a new generator for the given graph parameters, using
+	 * skip sampling whenever p is below the given threshold
+	 * @param n The number of vertices in the graph
+	 * @param seed The random number generator seed
+	 * @param p The probability that two vertices are connected via an edge
+	 * @param sparseThreshold The edge probability below which skip
+	 *     sampling is used. 0 always tests every pair.
+	 */
+	public GraphGenerator(int n, long seed, double p, double sparseThreshold) {
+		this.n = n;
+		this.p = p;
+		this.sparseThreshold = sparseThreshold;
+		
+		components = new DisjointSet(n);
+		attempts = 0;
+		
+		edgeRand = new Random(seed);
+		weightRand = new Random((2*seed));
+	}
+	
+	/**
+	 * Generate one random graph, passing each of its edges to the sink
+	 * in order of increasing start vertex, then increasing end vertex
+	 * @param sink The receiver of the generated edges
+	 */
+	public void generate(EdgeSink sink) {
+		components.reset();
+		attempts++;
+		
+		if(p < sparseThreshold) {
+			generateSparse(sink);
+		}
+		else {
+			generateDense(sink);
+		}
+	}
+	
+	/**
+	 * Generate random graphs until one is connected, clearing the
+	 * sink before each new attempt
+	 * @param sink The receiver of the generated edges
+	 * @param maxAttempts The number of graphs to try before giving up,
+	 *     or 0 to keep trying until a connected graph is found
+	 * @throws IllegalStateException if no connected graph was found
+	 *     within maxAttempts
+	 */
+	public void generateConnected(EdgeList sink, int maxAttempts) {
+		generateConnected(sink, sink::clear, maxAttempts);
+	}
+	
+	/**
+	 * Generate random graphs until one is connected, dropping each edge
+	 * straight into the bucket for its weight. The random sequences are
+	 * consumed exactly as they are when filling an EdgeList, so the same
+	 * graph is produced, but the buckets can be walked in weight order
+	 * without sorting them.
+	 * @param sink The buckets to receive the generated edges, which must
+	 *     hold weights up to n
+	 * @param maxAttempts The number of graphs to try before giving up,
+	 *     or 0 to keep trying until a connected graph is found
+	 * @throws IllegalStateException if no connected graph was found
+	 *     within maxAttempts
+	 */
+	public void generateConnected(WeightBuckets sink, int maxAttempts) {
+		generateConnected(sink, sink::clear, maxAttempts);
+	}
+	
+	/**
+	 * Generate random graphs until one is connected
+	 * @param sink The receiver of the generated edges
+	 * @param clear Empties the sink before each new attempt
+	 * @param maxAttempts The number of graphs to try before giving up,
+	 *     or 0 to keep trying until a connected graph is found
+	 */
+	private void generateConnected(EdgeSink sink, Runnable clear, int maxAttempts) {
+		do {
+			if(maxAttempts > 0 && attempts >= maxAttempts) {
+				throw new IllegalStateException("Graph is not connected after " 
+						+ attempts + " attempts (" + getComponentCount() 
+						+ " components)");
+			}
+			
+			clear.run();
+			generate(sink);
+		} while(!isConnected());
+	}
+	
+	/**
+	 * Emit an edge to the sink, merging the components of its endpoints
+	 * @param sink The receiver of the generated edges
+	 * @param weight The edge weight
+	 * @param x The starting vertex
+	 * @param y The ending vertex
+	 */
+	private void emit(EdgeSink sink, int weight, int x, int y) {
+		components.union(x, y);
+		sink.addEdge(weight, x, y);
+	}
+	
+	/**
+	 * Get the number of connected components in the most recently
+	 * generated graph
+	 * @return The number of components
+	 */
+	public int getComponentCount() {
+		return components.getComponentCount();
+	}
+	
+	/**
+	 * Check to see if the most recently generated graph is connected
+	 * @return Whether the graph is connected or not
+	 */
+	public boolean isConnected() {
+		return attempts > 0 && components.getComponentCount() == 1;
+	}
+	
+	/**
+	 * Get the number of graphs generated so far
+	 * @return The number of calls to generate
+	 */
+	public int getAttempts() {
+		return attempts;
+	}
+	
+	/**
+	 * Generate a graph by testing every pair of vertices in turn
+	 * @param sink The receiver of the generated edges
+	 */
+	private void generateDense(EdgeSink sink) {
+		int range = n - MIN_WEIGHT + 1;
+		
+		for(int x = 0; x < n; x++) {
+			for(int y = (x + 1); y < n; y++) {
+				if(edgeRand.nextDouble() <= p) {
+					emit(sink, MIN_WEIGHT + weightRand.nextInt(range), x, y);
+				}
+			}
+		}
+	}
+	
+	/**
+	 * Generate a graph by skipping over rejected pairs. The number of
+	 * pairs rejected before the next accepted one is geometrically
+	 * distributed, so it is drawn directly with a single random number.
+	 * @param sink The receiver of the generated edges
+	 */
+	private void generateSparse(EdgeSink sink) {
+		if(p <= 0.0) return;
+		
+		int range = n - MIN_WEIGHT + 1;
+		double logQ = Math.log(1.0 - p);
+		double pairs = (double) n * n;
+		
+		//(x, y) is the last pair examined; y = x means none in row x yet
+		int x = 0;
+		long y = 0;
+		
+		while(x < n - 1) {
+			double gap = Math.floor(Math.log(1.0 - edgeRand.nextDouble()) / logQ);
+			if(gap >= pairs) return;
+			
+			y += (long) gap + 1;
+			
+			//Carry past the end of each row into the start of the next
+			while(y >= n && x < n - 1) {
+				y = y - n + x + 2;
+				x++;
+			}
+			
+			if(x < n - 1) {
+				emit(sink, MIN_WEIGHT + weightRand.nextInt(range), x, (int) y);
+			}
+		}
+	}
+}
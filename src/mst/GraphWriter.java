@@ -0,0 +1,238 @@
+package mst;
+
+import java.io.Closeable;
+import java.io.Flushable;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+
+/**
+ * The GraphWriter class streams graphs, searches and minimum spanning
+ * trees to an output stream in the same text formats Graph prints.
+ * Output is encoded straight into a large byte buffer, numbers
+ * included, so that writing a large graph is bound by I/O rather than
+ * by string building or per-token stream calls.
+ * @author Thomas LaSalle (tel5027)
+ */
+public class GraphWriter implements Closeable, Flushable {
+	
+	//Instance Variables
+	private OutputStream out;
+	private byte buffer[];
+	private int pos;
+	
+	//Constants
+	private final int DEFAULT_BUFFER_SIZE = 1 << 16;
+	private final String NEWLINE = System.lineSeparator();
+	
+	/**
+	 * Construct a new GraphWriter over the given stream
+	 * @param out The stream to write to
+	 */
+	public GraphWriter(OutputStream out) {
+		this.out = out;
+		buffer = new byte[DEFAULT_BUFFER_SIZE];
+		pos = 0;
+	}
+	
+	/**
+	 * Write a string. Only ASCII text is expected.
+	 * @param s The string to write
+	 */
+	public void print(String s) {
+		for(int i = 0; i < s.length(); i++) {
+			if(pos == buffer.length) drain();
+			buffer[pos++] = (byte) s.charAt(i);
+		}
+	}
+	
+	/**
+	 * Write an object's string form
+	 * @param o The object to write
+	 */
+	public void print(Object o) {
+		print(String.valueOf(o));
+	}
+	
+	/**
+	 * Write an integer in decimal without creating a String
+	 * @param value The integer to write
+	 */
+	public void print(int value) {
+		print((long) value);
+	}
+	
+	/**
+	 * Write a long in decimal without creating a String
+	 * @param value The long to write
+	 */
+	public void print(long value) {
+		if(buffer.length - pos < 20) drain();
+		
+		if(value == Long.MIN_VALUE) {
+			print(Long.toString(value));
+			return;
+		}
+		
+		if(value < 0) {
+			buffer[pos++] = '-';
+			value = -value;
+		}
+		
+		//Write the digits backwards, then reverse them in place
+		int start = pos;
+		do {
+			buffer[pos++] = (byte) ('0' + (value % 10));
+			value /= 10;
+		} while(value != 0);
+		
+		for(int i = start, j = pos - 1; i < j; i++, j--) {
+			byte temp = buffer[i];
+			buffer[i] = buffer[j];
+			buffer[j] = temp;
+		}
+	}
+	
+	/**
+	 * End the current line
+	 */
+	public void println() {
+		print(NEWLINE);
+	}
+	
+	/**
+	 * Write a string and end the line
+	 * @param s The string to write
+	 */
+	public void println(String s) {
+		print(s);
+		println();
+	}
+	
+	/**
+	 * Write an object's string form and end the line
+	 * @param o The object to write
+	 */
+	public void println(Object o) {
+		print(o);
+		println();
+	}
+	
+	/**
+	 * Write the graph as an adjacency matrix, one row per line with a
+	 * blank line after each row and 0 for absent edges
+	 * @param matrix The adjacency matrix
+	 */
+	public void writeAdjacencyMatrix(AdjacencyMatrix matrix) {
+		int n = matrix.getVertexCount();
+		
+		for(int x = 0; x < n; x++) {
+			for(int y = 0; y < n; y++) {
+				print(matrix.getWeight(x, y));
+				print("   ");
+			}
+			println();
+			println();
+		}
+	}
+	
+	/**
+	 * Write the graph as an adjacency list, reading each weight straight
+	 * from the CSR arrays
+	 * @param graph The graph
+	 */
+	public void writeAdjacencyList(CSRGraph graph) {
+		int[] offsets = graph.getOffsets();
+		int[] targets = graph.getTargets();
+		int[] weights = graph.getWeights();
+		
+		for(int x = 0; x < graph.getVertexCount(); x++) {
+			print(x);
+			print("-> ");
+			
+			for(int i = offsets[x]; i < offsets[x + 1]; i++) {
+				print(targets[i]);
+				print("(");
+				print(weights[i]);
+				print(") ");
+			}
+			
+			println();
+		}
+	}
+	
+	/**
+	 * Write the discovery order and predecessors of a search
+	 * @param search The search results
+	 */
+	public void writeSearch(Traversal search) {
+		int[] order = search.getOrder();
+		int[] preds = search.getPredecessors();
+		
+		println();
+		println("Depth-First Search:");
+		for(int i = 0; i < search.getCount(); i++) {
+			print(order[i]);
+			print(" ");
+		}
+		println();
+		println("Predecessors:");
+		for(int j = 0; j < preds.length; j++) {
+			print(preds[j]);
+			print(" ");
+		}
+		println();
+	}
+	
+	/**
+	 * Write the edges of a minimum spanning tree, one per line
+	 * @param mst The edges of the minimum spanning tree
+	 */
+	public void writeMST(EdgeList mst) {
+		for(int i = 0; i < mst.size(); i++) {
+			print(mst.getStartVertex(i));
+			print(" ");
+			print(mst.getEndVertex(i));
+			print(" weight = ");
+			print(mst.getWeight(i));
+			println();
+		}
+	}
+	
+	/**
+	 * Write out the buffered bytes without flushing the stream
+	 */
+	private void drain() {
+		try {
+			out.write(buffer, 0, pos);
+		}
+		catch(IOException e) {
+			throw new UncheckedIOException(e);
+		}
+		pos = 0;
+	}
+	
+	@Override
+	public void flush() {
+		drain();
+		
+		try {
+			out.flush();
+		}
+		catch(IOException e) {
+			throw new UncheckedIOException(e);
+		}
+	}
+	
+	@Override
+	public void close() {
+		flush();
+		
+		try {
+			out.close();
+		}
+		catch(IOException e) {
+			throw new UncheckedIOException(e);
+		}
+	}
+}
@@ -0,0 +1,59 @@
+package mst;
+
+/**
+ * The IndexedPriorityQueue interface describes a min priority queue of
+ * vertex IDs keyed by an integer priority. Each vertex ID may appear at
+ * most once, which allows the priority of a queued vertex to be lowered
+ * in place with decreaseKey.
+ * @author Thomas LaSalle (tel5027)
+ */
+public interface IndexedPriorityQueue {
+	
+	/**
+	 * Insert a vertex into the Priority Queue with the given priority
+	 * @param id The Vertex ID, between 0 and capacity - 1
+	 * @param priority The priority of the vertex
+	 */
+	public void insert(int id, int priority);
+	
+	/**
+	 * Delete the vertex with the smallest priority from the Priority
+	 * Queue and return it to the user
+	 * @return The ID of the vertex which was deleted
+	 */
+	public int delete();
+	
+	/**
+	 * Lower the priority of a vertex which is currently in the
+	 * Priority Queue
+	 * @param id The Vertex ID
+	 * @param priority The new priority, no larger than the current one
+	 */
+	public void decreaseKey(int id, int priority);
+	
+	/**
+	 * Check to see if this Priority Queue contains the provided vertex
+	 * @param id The Vertex ID to search for
+	 * @return Whether the vertex exists in the Priority Queue or not
+	 */
+	public boolean contains(int id);
+	
+	/**
+	 * Get the current priority of a queued vertex
+	 * @param id The Vertex ID
+	 * @return The priority of the vertex
+	 */
+	public int getPriority(int id);
+	
+	/**
+	 * Get the number of vertices in the Priority Queue
+	 * @return The number of queued vertices
+	 */
+	public int size();
+	
+	/**
+	 * Check to see if this Priority Queue is empty
+	 * @return Whether the Priority Queue is empty or not
+	 */
+	public boolean isEmpty();
+}
@@ -0,0 +1,443 @@
+package mst;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.function.IntPredicate;
+import java.util.stream.IntStream;
+
+/**
+ * Class Kruskal houses Kruskal's Algorithm for selecting a
+ * Minimum Spanning Tree from our randomly generated graph
+ * @author Thomas LaSalle (tel5027)
+ */
+public class Kruskal {
+	
+	//Instance variables
+	private DisjointSet sets;
+	private ConcurrentDisjointSet sharedSets;
+	private int count, examined;
+	
+	private SortAlgorithm sort = new SortAlgorithm();
+	
+	//Constants
+	private final int MIN_BASE_SIZE = 1024;
+	private final int PARALLEL_THRESHOLD = 1 << 15;
+	private final int CHUNK_SIZE = 1 << 13;
+	private final int PIVOT_SAMPLES = 31;
+	
+	/**
+	 * Construct a new Kruskal object based on the provided
+	 * number of vertices.
+	 * @param n The number of vertices
+	 */
+	public Kruskal(int n) {
+		count = n;
+		sets = new DisjointSet(n);
+	}
+	
+	/**
+	 * Reset the current Kruskal Object to its default state for
+	 * easier reuse
+	 */
+	public void reset() {
+		sets.reset();
+		if(sharedSets != null) sharedSets.reset();
+	}
+	
+	/**
+	 * Find uses iterative path halving to determine the index of the
+	 * set containing the given vertex
+	 * @param index The index of the vertex
+	 * @return The index of the set containing the vertex
+	 */
+	private int find(int index) {
+		return sets.find(index);
+	}
+	
+	/**
+	 * Union combines two different sets into one
+	 * @param start The start vertex
+	 * @param end The end vertex
+	 */
+	private void union(int start, int end) {
+		sets.union(start, end);
+	}
+	
+	/**
+	 * KruskalMST performs Kruskal's algorithm on the provided array of
+	 * edges, utilizing a union-find with path halving, to form a
+	 * minimum spanning tree
+	 * @param graph The list of sorted Edges to pull the tree
+	 * @return The minimum spanning tree
+	 */
+	public ArrayList<Edge> KruskalMST(Edge[] graph) {
+		ArrayList<Edge> mst = new ArrayList<Edge>();
+		
+		int index = 0;
+		
+		while((index != graph.length) && (mst.size() != (count - 1))) {
+			
+			int start = graph[index].getStartVertex();
+			int end = graph[index].getEndVertex();
+			
+			if(find(start) != find(end)) {
+				mst.add(graph[index]);
+				union(start, end);
+			}
+			
+			index++;
+		}
+		
+		examined = index;
+		return mst;
+	}
+	
+	/**
+	 * KruskalMST performs Kruskal's algorithm on the provided list of
+	 * sorted edges, without creating any Edge objects
+	 * @param graph The list of sorted edges to pull the tree
+	 * @return The minimum spanning tree
+	 */
+	public EdgeList KruskalMST(EdgeList graph) {
+		EdgeList mst = new EdgeList(Math.max(count - 1, 1));
+		
+		int index = 0;
+		
+		while((index != graph.size()) && (mst.size() != (count - 1))) {
+			
+			int start = graph.getStartVertex(index);
+			int end = graph.getEndVertex(index);
+			
+			if(find(start) != find(end)) {
+				mst.addEdge(graph.getWeight(index), start, end);
+				union(start, end);
+			}
+			
+			index++;
+		}
+		
+		examined = index;
+		return mst;
+	}
+	
+	/**
+	 * KruskalMST performs Kruskal's algorithm on an array of sorted,
+	 * packed edges, such as one sorted by SortAlgorithm.radixSort, so
+	 * that no Edge objects are created between sorting and the union-find
+	 * @param packed The sorted packed edges, see PackedEdge
+	 * @param size The number of edges at the front of the array
+	 * @return The minimum spanning tree
+	 */
+	public EdgeList KruskalMST(long[] packed, int size) {
+		EdgeList mst = new EdgeList(Math.max(count - 1, 1));
+		
+		int index = 0;
+		
+		while((index != size) && (mst.size() != (count - 1))) {
+			
+			int start = PackedEdge.getStartVertex(packed[index]);
+			int end = PackedEdge.getEndVertex(packed[index]);
+			
+			if(find(start) != find(end)) {
+				mst.addEdge(PackedEdge.getWeight(packed[index]), start, end);
+				union(start, end);
+			}
+			
+			index++;
+		}
+		
+		examined = index;
+		return mst;
+	}
+	
+	/**
+	 * KruskalMST performs Kruskal's algorithm on edges which were
+	 * generated straight into buckets by weight, walking the buckets
+	 * from the lightest to the heaviest so that no sort is needed
+	 * @param graph The edges, bucketed by weight
+	 * @return The minimum spanning tree
+	 */
+	public EdgeList KruskalMST(WeightBuckets graph) {
+		EdgeList mst = new EdgeList(Math.max(count - 1, 1));
+		
+		examined = 0;
+		
+		for(int w = 0; w <= graph.getMaxWeight() && mst.size() != (count - 1); w++) {
+			for(int i = graph.firstEdge(w); i != -1 && mst.size() != (count - 1); i = graph.nextEdge(i)) {
+				int start = graph.getStartVertex(i);
+				int end = graph.getEndVertex(i);
+				
+				if(find(start) != find(end)) {
+					mst.addEdge(w, start, end);
+					union(start, end);
+				}
+				
+				examined++;
+			}
+		}
+		
+		return mst;
+	}
+	
+	/**
+	 * FilterKruskalMST performs the Filter-Kruskal variant of Kruskal's
+	 * algorithm on an unsorted list of edges. The edges are partitioned
+	 * around a pivot weight and the light side is processed first; heavy
+	 * edges whose endpoints the light side has already connected are
+	 * then filtered out before they are ever sorted. Partitioning and
+	 * filtering run in parallel on large lists, so this variant alone
+	 * uses a concurrent union-find, which the filter threads share. The
+	 * tree found is the same one KruskalMST finds on the sorted list.
+	 * @param graph The list of edges to pull the tree, in any order
+	 * @return The minimum spanning tree
+	 */
+	public EdgeList FilterKruskalMST(EdgeList graph) {
+		EdgeList mst = new EdgeList(Math.max(count - 1, 1));
+		
+		if(sharedSets == null) {
+			sharedSets = new ConcurrentDisjointSet(count);
+		}
+		
+		examined = 0;
+		filterKruskal(graph, mst);
+		
+		return mst;
+	}
+	
+	/**
+	 * LazyKruskalMST performs Kruskal's algorithm on an unsorted list of
+	 * edges without sorting it. The list is turned into a binary min heap
+	 * in O(E), in place, and edges are only popped off in weight order
+	 * until the tree spans the graph, so the cost of ordering depends on
+	 * the number of edges examined rather than on E log E. The provided
+	 * list is rearranged.
+	 * @param graph The list of edges to pull the tree, in any order
+	 * @return The minimum spanning tree
+	 */
+	public EdgeList LazyKruskalMST(EdgeList graph) {
+		EdgeList mst = new EdgeList(Math.max(count - 1, 1));
+		int[] w = graph.getWeights();
+		int[] s = graph.getStartVertices();
+		int[] e = graph.getEndVertices();
+		int size = graph.size();
+		
+		for(int k = (size / 2) - 1; k >= 0; k--) {
+			siftDown(w, s, e, k, size);
+		}
+		
+		examined = 0;
+		
+		while(size > 0 && mst.size() != (count - 1)) {
+			int weight = w[0];
+			int start = s[0];
+			int end = e[0];
+			
+			//Move the last edge to the top and restore the heap
+			size--;
+			w[0] = w[size];
+			s[0] = s[size];
+			e[0] = e[size];
+			siftDown(w, s, e, 0, size);
+			examined++;
+			
+			if(find(start) != find(end)) {
+				mst.addEdge(weight, start, end);
+				union(start, end);
+			}
+		}
+		
+		return mst;
+	}
+	
+	/**
+	 * Sink an edge down the heap of edges until the min heap is valid,
+	 * ordering edges by weight, then start, then end vertex
+	 * @param w The edge weights
+	 * @param s The start vertices
+	 * @param e The end vertices
+	 * @param k The index of the edge to sink
+	 * @param size The number of edges in the heap
+	 */
+	private void siftDown(int[] w, int[] s, int[] e, int k, int size) {
+		int weight = w[k];
+		int start = s[k];
+		int end = e[k];
+		
+		while((2*k) + 1 < size) {
+			int j = (2*k) + 1;
+			if(j + 1 < size && less(w[j+1], s[j+1], e[j+1], w[j], s[j], e[j])) j++;
+			if(!less(w[j], s[j], e[j], weight, start, end)) break;
+			
+			w[k] = w[j];
+			s[k] = s[j];
+			e[k] = e[j];
+			k = j;
+		}
+		
+		w[k] = weight;
+		s[k] = start;
+		e[k] = end;
+	}
+	
+	/**
+	 * Compare two edges by weight, then start, then end vertex
+	 * @param w1 The weight of the first edge
+	 * @param s1 The start vertex of the first edge
+	 * @param e1 The end vertex of the first edge
+	 * @param w2 The weight of the second edge
+	 * @param s2 The start vertex of the second edge
+	 * @param e2 The end vertex of the second edge
+	 * @return Whether the first edge is less than the second
+	 */
+	private static boolean less(int w1, int s1, int e1, int w2, int s2, int e2) {
+		if(w1 != w2) return w1 < w2;
+		if(s1 != s2) return s1 < s2;
+		return e1 < e2;
+	}
+	
+	/**
+	 * Get the number of edges the most recent run of Kruskal's algorithm
+	 * examined before the tree was complete
+	 * @return The number of edges examined
+	 */
+	public int getExaminedCount() {
+		return examined;
+	}
+	
+	/**
+	 * Add the edges of a sorted list to the Filter-Kruskal tree in order,
+	 * skipping those which would form a cycle, until the tree spans the
+	 * graph
+	 * @param graph The list of sorted edges
+	 * @param mst The tree being built
+	 */
+	private void addToTree(EdgeList graph, EdgeList mst) {
+		int index = 0;
+		
+		while((index != graph.size()) && (mst.size() != (count - 1))) {
+			
+			int start = graph.getStartVertex(index);
+			int end = graph.getEndVertex(index);
+			
+			if(sharedSets.union(start, end)) {
+				mst.addEdge(graph.getWeight(index), start, end);
+			}
+			
+			index++;
+		}
+		
+		examined += index;
+	}
+	
+	/**
+	 * Recursively partition, filter and sort the edges, adding them
+	 * to the tree in weight order
+	 * @param edges The edges still to be considered
+	 * @param mst The tree being built
+	 */
+	private void filterKruskal(EdgeList edges, EdgeList mst) {
+		if(mst.size() == (count - 1) || edges.size() == 0) return;
+		
+		if(edges.size() <= Math.max(MIN_BASE_SIZE, count)) {
+			addToTree(sort.quickSort(edges, 0, edges.size() - 1), mst);
+			return;
+		}
+		
+		final int[] w = edges.getWeights();
+		final int pivot = choosePivot(edges);
+		
+		EdgeList light = select(edges, i -> w[i] <= pivot);
+		EdgeList heavy = select(edges, i -> w[i] > pivot);
+		
+		//Every edge has the same weight, so the split made no progress
+		if(light.size() == 0 || heavy.size() == 0) {
+			addToTree(sort.quickSort(edges, 0, edges.size() - 1), mst);
+			return;
+		}
+		
+		filterKruskal(light, mst);
+		if(mst.size() == (count - 1)) return;
+		
+		final int[] s = heavy.getStartVertices();
+		final int[] e = heavy.getEndVertices();
+		filterKruskal(select(heavy, i -> !sharedSets.connected(s[i], e[i])), mst);
+	}
+	
+	/**
+	 * Choose a pivot weight as the median of an evenly spaced sample
+	 * of the edges
+	 * @param edges The edges to sample
+	 * @return The pivot weight
+	 */
+	private int choosePivot(EdgeList edges) {
+		int[] sample = new int[PIVOT_SAMPLES];
+		int step = edges.size() / PIVOT_SAMPLES;
+		
+		for(int i = 0; i < PIVOT_SAMPLES; i++) {
+			sample[i] = edges.getWeight(i * step);
+		}
+		
+		Arrays.sort(sample);
+		return sample[PIVOT_SAMPLES / 2];
+	}
+	
+	/**
+	 * Copy the edges which satisfy a condition into a new list, keeping
+	 * their relative order. Large lists are split into chunks which are
+	 * counted and then copied in parallel.
+	 * @param edges The edges to select from
+	 * @param keep The condition, given the index of an edge
+	 * @return The selected edges
+	 */
+	private EdgeList select(EdgeList edges, IntPredicate keep) {
+		final int N = edges.size();
+		final int[] w = edges.getWeights();
+		final int[] s = edges.getStartVertices();
+		final int[] e = edges.getEndVertices();
+		
+		if(N < PARALLEL_THRESHOLD) {
+			EdgeList result = new EdgeList(N);
+			for(int i = 0; i < N; i++) {
+				if(keep.test(i)) result.addEdge(w[i], s[i], e[i]);
+			}
+			return result;
+		}
+		
+		final int chunks = (N + CHUNK_SIZE - 1) / CHUNK_SIZE;
+		final boolean[] kept = new boolean[N];
+		final int[] start = new int[chunks + 1];
+		
+		//Count the edges each chunk keeps
+		IntStream.range(0, chunks).parallel().forEach(c -> {
+			int num = 0;
+			for(int i = c * CHUNK_SIZE; i < Math.min(N, (c + 1) * CHUNK_SIZE); i++) {
+				kept[i] = keep.test(i);
+				if(kept[i]) num++;
+			}
+			start[c + 1] = num;
+		});
+		
+		for(int c = 0; c < chunks; c++) {
+			start[c + 1] += start[c];
+		}
+		
+		//Copy each chunk's edges into its own slice of the result
+		final int[] rw = new int[start[chunks]];
+		final int[] rs = new int[start[chunks]];
+		final int[] re = new int[start[chunks]];
+		
+		IntStream.range(0, chunks).parallel().forEach(c -> {
+			int k = start[c];
+			for(int i = c * CHUNK_SIZE; i < Math.min(N, (c + 1) * CHUNK_SIZE); i++) {
+				if(kept[i]) {
+					rw[k] = w[i];
+					rs[k] = s[i];
+					re[k++] = e[i];
+				}
+			}
+		});
+		
+		return new EdgeList(rw, rs, re, start[chunks]);
+	}
+
+}
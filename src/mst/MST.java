@@ -0,0 +1,213 @@
+package mst;
+
+import java.io.FileNotFoundException;
+import java.io.File;
+import java.util.ArrayList;
+import java.util.InputMismatchException;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Scanner;
+
+/**
+ * MST contains the main program for the random graph generation
+ * @author Thomas LaSalle (tel5027)
+ */
+public class MST {
+	
+	//Constants
+	private static final String USAGE = 
+			"Usage: java mst.MST <input file> [-auto | -calibrate | -concurrent] [-threads <count>] "
+			+ "[-attempts <count>] [-gen-threads <count>] [-print]";
+	private static final int BATCH_ATTEMPTS = 100;
+
+	/**
+	 * The Main program
+	 * @param args Command Line arguments
+	 * @throws FileNotFoundException 
+	 *     thrown if the input file is not found
+	 */
+	public static void main(String[] args) throws FileNotFoundException {
+		
+		//Instance Variables
+		//Initialized to default values for compilation
+		int n = 0;
+		long seed = 0;
+		double p = 0.0;
+		Scanner reader = null;
+		List<BatchRunner.Case> cases = new ArrayList<BatchRunner.Case>();
+		
+		//If there is not 1 argument, the input file is missing
+		if(args.length < 1) {
+	    	usage("Input file not found");
+		}
+		
+		//The arguments after the file select how the graphs are run:
+		//-auto runs only the algorithm chosen with the saved thresholds,
+		//-calibrate measures and saves the thresholds first,
+		//-concurrent runs every variant at once, and -threads sets how
+		//many variants or batch cases run at once (one per core by default),
+		//-attempts sets how many graphs are tried before a case fails
+		//(until one is connected for a single case, 100 for a batch),
+		//and -gen-threads generates each graph on that many threads with
+		//the parallel generator, whose graphs differ from the default's.
+		//-print writes the adjacency list, search and MSTs of a single
+		//case for any n, rather than only for fewer than 10 vertices
+		String mode = null;
+		int threads = Runtime.getRuntime().availableProcessors();
+		int attempts = -1;
+		int genThreads = 0;
+		boolean print = false;
+		
+		for(int i = 1; i < args.length; i++) {
+			if(args[i].equals("-threads") && i + 1 < args.length) {
+				try {
+					threads = Integer.parseInt(args[++i]);
+				}
+				catch(NumberFormatException e) {
+					usage(USAGE);
+				}
+				if(threads < 1) usage("threads must be at least 1");
+			}
+			else if(args[i].equals("-attempts") && i + 1 < args.length) {
+				try {
+					attempts = Integer.parseInt(args[++i]);
+				}
+				catch(NumberFormatException e) {
+					usage(USAGE);
+				}
+				if(attempts < 0) usage("attempts must not be negative");
+			}
+			else if(args[i].equals("-gen-threads") && i + 1 < args.length) {
+				try {
+					genThreads = Integer.parseInt(args[++i]);
+				}
+				catch(NumberFormatException e) {
+					usage(USAGE);
+				}
+				if(genThreads < 1) usage("gen-threads must be at least 1");
+			}
+			else if(args[i].equals("-print")) {
+				print = true;
+			}
+			else if(mode == null && (args[i].equals("-auto") || args[i].equals("-calibrate")
+					|| args[i].equals("-concurrent"))) {
+				mode = args[i];
+			}
+			else {
+				usage(USAGE);
+			}
+		}
+		
+		//Pull the argument for the filename
+		//Create a Scanner object to read data from the file
+		File file = new File(args[0]);
+		
+		try{
+			 reader = new Scanner(file);
+		}
+		catch(FileNotFoundException e){
+			usage("Input file not found");
+		}
+		
+		//The file holds one test case, or a batch of them, each as
+		//n, seed and p in turn
+		do {
+			String where = cases.isEmpty() ? "" : "Case " + (cases.size() + 1) + ": ";
+			
+			//Ensure that the first two lines are n and seed (Integers)
+			//If they are not, terminate the program
+			try {
+				n = reader.nextInt();
+				seed = reader.nextInt();
+			}
+			catch(NumberFormatException e) {
+				reader.close();
+				usage(where + "n and seed must be integers");
+			}
+			catch(InputMismatchException e) {
+				reader.close();
+				usage(where + "n and seed must be integers");
+			}
+			catch(NoSuchElementException e) {
+				reader.close();
+				usage(where + "n, seed and p are required");
+			}
+					
+			//Ensure the final line is p (Double)
+			//If not, terminate the program
+			try {
+				p = reader.nextDouble();
+			}
+			catch(InputMismatchException e) {
+				reader.close();
+				usage(where + "p must be a real number");
+			}
+			catch(NoSuchElementException e) {
+				reader.close();
+				usage(where + "n, seed and p are required");
+			}
+					
+			//If n < 2 or p is not between 0 and 1, terminate the program
+			if(n < 2){
+				reader.close();
+				usage(where + "n must be greater than 1");
+			}
+			if(p < 0.0 || p > 1.0){
+				reader.close();
+				usage(where + "p must be between 0 and 1");
+			}
+			
+			cases.add(new BatchRunner.Case(n, seed, p));
+		} while(reader.hasNext());
+		
+		//Close the scanner object
+		reader.close();
+		
+		MSTSelector selector = null;
+		File thresholds = new File(MSTSelector.DEFAULT_FILE);
+		
+		if("-calibrate".equals(mode)) {
+			selector = MSTSelector.calibrate();
+			selector.save(thresholds);
+			System.out.println("Saved thresholds to " + thresholds + ": dense density "
+					+ selector.getDenseDensity() + ", parallel edges " 
+					+ selector.getParallelEdges());
+		}
+		else if("-auto".equals(mode)) {
+			selector = MSTSelector.load(thresholds);
+		}
+		
+		//Construct the graph, and print it out.
+		if(cases.size() == 1) {
+			Graph g = new Graph(n,seed,p,Math.max(attempts, 0),selector,
+					"-concurrent".equals(mode) ? threads : 1, genThreads, print, System.out);
+			return;
+		}
+		
+		//A batch holds each report in memory until its turn, so it does
+		//not print whole graphs
+		if(print) {
+			usage("print only applies to a single case");
+		}
+		
+		//Run a batch of graphs, several at once, and report them in order.
+		//The attempts are bounded so that a case which is never connected
+		//fails rather than holding back the reports of the cases after it
+		BatchRunner batch = new BatchRunner(threads, 
+				(attempts < 0) ? BATCH_ATTEMPTS : attempts, selector, genThreads);
+		if(batch.run(cases, System.out) > 0) {
+			System.exit(1);
+		}
+	}
+	
+	/**
+	 * Usage prints a message to the terminal and terminates
+	 * with status code 1
+	 * @param msg The message to print
+	 */
+	public static void usage(String msg) {
+		System.out.println(msg);
+		System.exit(1);
+	}
+
+}
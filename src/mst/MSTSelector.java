@@ -0,0 +1,307 @@
+package mst;
+
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.util.Properties;
+
+/**
+ * The MSTSelector class picks the minimum spanning tree algorithm,
+ * graph representation and sort expected to be fastest for a given
+ * graph, and runs only that one. The choice looks at the number of
+ * vertices, the number of edges and so the density, the range of the
+ * weights, the number of available cores and the memory available:
+ * 
+ * 1. Graphs at least as dense as the dense threshold whose weight matrix
+ *    fits comfortably in memory use the O(V^2) matrix Prim.
+ * 2. With more than one core, graphs with at least the parallel
+ *    threshold of edges use the parallel Boruvka.
+ * 3. Graphs whose weight range is small next to their edge count use
+ *    Kruskal with the parallel counting sort.
+ * 4. Other graphs which fit in packed edges use Kruskal with the radix
+ *    sort, and the rest use Filter-Kruskal.
+ * 
+ * The two thresholds default to conservative values. calibrate times
+ * the candidates on the local machine to find where they cross over,
+ * and save and load keep the result for later runs.
+ * @author Thomas LaSalle (tel5027)
+ */
+public class MSTSelector {
+	
+	/**
+	 * The algorithms the selector chooses between
+	 */
+	public enum Strategy {
+		DENSE_PRIM("Prim on a flat weight matrix"),
+		PARALLEL_BORUVKA("Parallel Boruvka on CSR"),
+		COUNT_SORT_KRUSKAL("Kruskal with a parallel counting sort"),
+		RADIX_SORT_KRUSKAL("Kruskal with a radix sort of packed edges"),
+		FILTER_KRUSKAL("Filter-Kruskal on CSR");
+		
+		private final String description;
+		
+		Strategy(String description) {
+			this.description = description;
+		}
+		
+		/**
+		 * Get a short description of the algorithm
+		 * @return The description
+		 */
+		public String getDescription() {
+			return description;
+		}
+	}
+	
+	//Instance Variables
+	private double denseDensity;
+	private long parallelEdges;
+	private int cores;
+	
+	private SortAlgorithm sort = new SortAlgorithm();
+	
+	//Constants
+	public static final String DEFAULT_FILE = "mst-thresholds.properties";
+	
+	private static final double DEFAULT_DENSE_DENSITY = 0.3;
+	private static final long DEFAULT_PARALLEL_EDGES = 1L << 20;
+	private static final int COUNT_RANGE_FACTOR = 4;
+	
+	private static final int CALIBRATION_VERTICES = 1500;
+	private static final double[] CALIBRATION_DENSITIES = {0.05, 0.1, 0.2, 0.3, 0.5, 0.75, 1.0};
+	private static final int[] CALIBRATION_SIZES = {2000, 8000, 32000};
+	private static final int CALIBRATION_DEGREE = 32;
+	private static final int CALIBRATION_RUNS = 3;
+	private static final long CALIBRATION_SEED = 1;
+	
+	/**
+	 * Construct a new selector with the default thresholds
+	 */
+	public MSTSelector() {
+		this(DEFAULT_DENSE_DENSITY, DEFAULT_PARALLEL_EDGES);
+	}
+	
+	/**
+	 * Construct a new selector with the given thresholds
+	 * @param denseDensity The fraction of all vertex pairs which must be
+	 *     edges before the matrix Prim is used
+	 * @param parallelEdges The number of edges from which the parallel
+	 *     Boruvka is used when more than one core is available
+	 */
+	public MSTSelector(double denseDensity, long parallelEdges) {
+		this.denseDensity = denseDensity;
+		this.parallelEdges = parallelEdges;
+		cores = Runtime.getRuntime().availableProcessors();
+	}
+	
+	/**
+	 * Choose the algorithm for a graph
+	 * @param graph The graph
+	 * @return The algorithm expected to be fastest
+	 */
+	public Strategy select(CSRGraph graph) {
+		long n = graph.getVertexCount();
+		long m = graph.getEdgeCount();
+		double density = (n < 2) ? 0.0 : m / (n * (n - 1) / 2.0);
+		
+		if(density >= denseDensity && AdjacencyMatrix.weightMatrixFits((int) n)) {
+			return Strategy.DENSE_PRIM;
+		}
+		
+		if(cores > 1 && m >= parallelEdges) {
+			return Strategy.PARALLEL_BORUVKA;
+		}
+		
+		long min = Integer.MAX_VALUE;
+		long max = Integer.MIN_VALUE;
+		int[] weights = graph.getWeights();
+		for(int i = 0; i < 2 * m; i++) {
+			min = Math.min(min, weights[i]);
+			max = Math.max(max, weights[i]);
+		}
+		
+		boolean packable = (n - 1 <= PackedEdge.MAX_VALUE) && min >= 0 && max <= PackedEdge.MAX_VALUE;
+		
+		if(packable && max - min + 1 <= COUNT_RANGE_FACTOR * m) {
+			return Strategy.COUNT_SORT_KRUSKAL;
+		}
+		
+		return packable ? Strategy.RADIX_SORT_KRUSKAL : Strategy.FILTER_KRUSKAL;
+	}
+	
+	/**
+	 * Find the minimum spanning tree of a graph with the algorithm
+	 * select chooses for it
+	 * @param graph The graph
+	 * @return The edges of the minimum spanning tree
+	 */
+	public EdgeList run(CSRGraph graph) {
+		return run(select(graph), graph);
+	}
+	
+	/**
+	 * Find the minimum spanning tree of a graph with the given algorithm
+	 * @param strategy The algorithm to use
+	 * @param graph The graph
+	 * @return The edges of the minimum spanning tree
+	 */
+	public EdgeList run(Strategy strategy, CSRGraph graph) {
+		int n = graph.getVertexCount();
+		
+		switch(strategy) {
+			case DENSE_PRIM:
+				return new Prim(n).PrimMST(new AdjacencyMatrix(graph).getWeightMatrix(Integer.MAX_VALUE));
+			case PARALLEL_BORUVKA:
+				return new Boruvka(n).BoruvkaMST(graph);
+			case COUNT_SORT_KRUSKAL:
+				long[] counted = sort.parallelCountSortPacked(graph.getEdges());
+				return new Kruskal(n).KruskalMST(counted, counted.length);
+			case RADIX_SORT_KRUSKAL:
+				long[] radixed = sort.radixSort(graph.getPackedEdges(), graph.getEdgeCount());
+				return new Kruskal(n).KruskalMST(radixed, radixed.length);
+			default:
+				return new Kruskal(n).FilterKruskalMST(graph.getEdges());
+		}
+	}
+	
+	/**
+	 * Time the candidate algorithms on generated graphs and build a
+	 * selector from where they cross over on this machine. The dense
+	 * threshold lies between the highest density at which the matrix
+	 * Prim loses to a sparse candidate and the density above it, from
+	 * which it wins; the parallel threshold is the smallest
+	 * edge count from which the parallel Boruvka beats the counting sort
+	 * Kruskal, and is only measured when more than one core is available.
+	 * @return The calibrated selector
+	 */
+	public static MSTSelector calibrate() {
+		MSTSelector selector = new MSTSelector();
+		
+		//Find the lowest density from which the matrix wins at every density above
+		double dense = Double.POSITIVE_INFINITY;
+		for(int i = CALIBRATION_DENSITIES.length - 1; i >= 0; i--) {
+			CSRGraph graph = CSRGraph.generate(CALIBRATION_VERTICES, CALIBRATION_SEED, CALIBRATION_DENSITIES[i]);
+			long best = Long.MAX_VALUE;
+			
+			for(Strategy s : new Strategy[] {Strategy.PARALLEL_BORUVKA, Strategy.COUNT_SORT_KRUSKAL,
+					Strategy.RADIX_SORT_KRUSKAL, Strategy.FILTER_KRUSKAL}) {
+				if(s == Strategy.PARALLEL_BORUVKA && selector.cores == 1) continue;
+				best = Math.min(best, selector.time(s, graph));
+			}
+			
+			//Place the threshold halfway between the densities where it loses and wins
+			if(selector.time(Strategy.DENSE_PRIM, graph) >= best) {
+				if(dense <= 1.0) dense = (dense + CALIBRATION_DENSITIES[i]) / 2;
+				break;
+			}
+			dense = CALIBRATION_DENSITIES[i];
+		}
+		
+		//Find the smallest edge count from which the parallel Boruvka wins at every size above
+		long parallel = Long.MAX_VALUE;
+		if(selector.cores > 1) {
+			for(int i = CALIBRATION_SIZES.length - 1; i >= 0; i--) {
+				int n = CALIBRATION_SIZES[i];
+				CSRGraph graph = CSRGraph.generate(n, CALIBRATION_SEED, (double) CALIBRATION_DEGREE / n);
+				
+				if(selector.time(Strategy.PARALLEL_BORUVKA, graph)
+						>= selector.time(Strategy.COUNT_SORT_KRUSKAL, graph)) break;
+				parallel = graph.getEdgeCount();
+			}
+		}
+		
+		selector.denseDensity = dense;
+		selector.parallelEdges = parallel;
+		return selector;
+	}
+	
+	/**
+	 * Time an algorithm on a graph, keeping the fastest of a few runs
+	 * after one to warm up
+	 * @param strategy The algorithm to time
+	 * @param graph The graph
+	 * @return The fastest runtime in nanoseconds
+	 */
+	private long time(Strategy strategy, CSRGraph graph) {
+		long best = Long.MAX_VALUE;
+		
+		run(strategy, graph);
+		for(int i = 0; i < CALIBRATION_RUNS; i++) {
+			long start = System.nanoTime();
+			run(strategy, graph);
+			best = Math.min(best, System.nanoTime() - start);
+		}
+		
+		return best;
+	}
+	
+	/**
+	 * Load a selector from thresholds saved by save. If the file does not
+	 * exist, or was saved on a machine with a different number of cores,
+	 * the default thresholds are used.
+	 * @param file The file to read
+	 * @return The selector
+	 * @throws UncheckedIOException If the file could not be read
+	 * @throws NumberFormatException If the file holds a malformed threshold
+	 */
+	public static MSTSelector load(File file) {
+		MSTSelector selector = new MSTSelector();
+		if(!file.exists()) return selector;
+		
+		Properties props = new Properties();
+		try(InputStream in = new FileInputStream(file)) {
+			props.load(in);
+		}
+		catch(IOException e) {
+			throw new UncheckedIOException(e);
+		}
+		
+		if(Integer.parseInt(props.getProperty("cores", "0")) == selector.cores) {
+			selector.denseDensity = Double.parseDouble(props.getProperty("denseDensity", 
+					Double.toString(DEFAULT_DENSE_DENSITY)));
+			selector.parallelEdges = Long.parseLong(props.getProperty("parallelEdges", 
+					Long.toString(DEFAULT_PARALLEL_EDGES)));
+		}
+		
+		return selector;
+	}
+	
+	/**
+	 * Save the thresholds of this selector so that load can reuse them
+	 * @param file The file to write
+	 * @throws UncheckedIOException If the file could not be written
+	 */
+	public void save(File file) {
+		Properties props = new Properties();
+		props.setProperty("cores", Integer.toString(cores));
+		props.setProperty("denseDensity", Double.toString(denseDensity));
+		props.setProperty("parallelEdges", Long.toString(parallelEdges));
+		
+		try(OutputStream out = new FileOutputStream(file)) {
+			props.store(out, "MST algorithm selection thresholds");
+		}
+		catch(IOException e) {
+			throw new UncheckedIOException(e);
+		}
+	}
+	
+	/**
+	 * Get the density from which the matrix Prim is used
+	 * @return The fraction of all vertex pairs which must be edges
+	 */
+	public double getDenseDensity() {
+		return denseDensity;
+	}
+	
+	/**
+	 * Get the number of edges from which the parallel Boruvka is used
+	 * @return The edge count
+	 */
+	public long getParallelEdges() {
+		return parallelEdges;
+	}
+}
@@ -0,0 +1,116 @@
+package mst;
+
+/**
+ * The PackedEdge class encodes an undirected, weighted edge as a single
+ * long: the weight in the high bits, then the start vertex, then the end
+ * vertex. Comparing two packed edges as longs orders them by weight,
+ * then start, then end vertex, just as Edge.compareTo does, so an array
+ * of packed edges can be sorted and walked without creating any Edge
+ * objects. Weights and vertices must lie in [0, MAX_VALUE].
+ * @author Thomas LaSalle (tel5027)
+ */
+public final class PackedEdge {
+	
+	//Constants
+	public static final int FIELD_BITS = 21;
+	public static final int MAX_VALUE = (1 << FIELD_BITS) - 1;
+	
+	private static final int START_SHIFT = FIELD_BITS;
+	private static final int WEIGHT_SHIFT = 2 * FIELD_BITS;
+	
+	/**
+	 * PackedEdge only provides static methods
+	 */
+	private PackedEdge() {
+	}
+	
+	/**
+	 * Pack an edge into a single long
+	 * @param weight The edge weight
+	 * @param start The start vertex
+	 * @param end The end vertex
+	 * @return The packed edge
+	 */
+	public static long pack(int weight, int start, int end) {
+		return ((long) weight << WEIGHT_SHIFT) | ((long) start << START_SHIFT) | end;
+	}
+	
+	/**
+	 * Get the weight of a packed edge
+	 * @param edge The packed edge
+	 * @return The edge weight
+	 */
+	public static int getWeight(long edge) {
+		return (int) (edge >>> WEIGHT_SHIFT);
+	}
+	
+	/**
+	 * Get the start vertex of a packed edge
+	 * @param edge The packed edge
+	 * @return The start vertex
+	 */
+	public static int getStartVertex(long edge) {
+		return (int) (edge >>> START_SHIFT) & MAX_VALUE;
+	}
+	
+	/**
+	 * Get the end vertex of a packed edge
+	 * @param edge The packed edge
+	 * @return The end vertex
+	 */
+	public static int getEndVertex(long edge) {
+		return (int) edge & MAX_VALUE;
+	}
+	
+	/**
+	 * Pack every edge of an EdgeList, keeping their order
+	 * @param edges The edges to pack
+	 * @return An array holding exactly edges.size() packed edges
+	 * @throws IllegalArgumentException If a weight or vertex does not fit
+	 */
+	public static long[] pack(EdgeList edges) {
+		int N = edges.size();
+		int[] w = edges.getWeights();
+		int[] s = edges.getStartVertices();
+		int[] e = edges.getEndVertices();
+		long[] packed = new long[N];
+		
+		for(int i = 0; i < N; i++) {
+			check(w[i]);
+			check(s[i]);
+			check(e[i]);
+			packed[i] = pack(w[i], s[i], e[i]);
+		}
+		
+		return packed;
+	}
+	
+	/**
+	 * Unpack the first size edges of a packed array into an EdgeList
+	 * @param packed The packed edges
+	 * @param size The number of edges to unpack
+	 * @return The unpacked edges
+	 */
+	public static EdgeList unpack(long[] packed, int size) {
+		EdgeList edges = new EdgeList(size);
+		
+		for(int i = 0; i < size; i++) {
+			edges.addEdge(getWeight(packed[i]), getStartVertex(packed[i]),
+					getEndVertex(packed[i]));
+		}
+		
+		return edges;
+	}
+	
+	/**
+	 * Make sure a weight or vertex fits in one field of a packed edge
+	 * @param value The weight or vertex
+	 * @throws IllegalArgumentException If the value does not fit
+	 */
+	private static void check(int value) {
+		if(value < 0 || value > MAX_VALUE) {
+			throw new IllegalArgumentException("Value " + value
+					+ " does not fit in a packed edge (max " + MAX_VALUE + ")");
+		}
+	}
+}
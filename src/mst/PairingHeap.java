@@ -0,0 +1,160 @@
+package mst;
+
+/**
+ * Class PairingHeap provides an implementation of an indexed Priority
+ * Queue as a pairing heap. The heap is stored as a forest of vertex IDs
+ * in parallel arrays (leftmost child, next sibling, and previous node),
+ * so insert and decreaseKey are O(1) and delete is amortized O(log n)
+ * without allocating any nodes.
+ * @author Thomas LaSalle (tel5027)
+ */
+public class PairingHeap implements IndexedPriorityQueue {
+	
+	//Instance Variables
+	private int keys[], child[], sibling[], prev[], pairs[];
+	private boolean queued[];
+	private int root, size;
+	
+	//Constants
+	private final int NONE = -1;
+	
+	/**
+	 * Initialize an empty Priority Queue with the provided capacity
+	 * @param capacity The number of distinct vertex IDs
+	 */
+	public PairingHeap(int capacity) {
+		keys = new int[capacity];
+		child = new int[capacity];
+		sibling = new int[capacity];
+		prev = new int[capacity];
+		pairs = new int[capacity];
+		queued = new boolean[capacity];
+		root = NONE;
+		size = 0;
+	}
+	
+	/**
+	 * Link two detached trees together, making the root with the larger
+	 * priority the leftmost child of the other
+	 * @param a The root of the first tree
+	 * @param b The root of the second tree
+	 * @return The root of the combined tree
+	 */
+	private int link(int a, int b) {
+		if(keys[b] < keys[a]) {
+			int temp = a;
+			a = b;
+			b = temp;
+		}
+		
+		sibling[b] = child[a];
+		if(child[a] != NONE) prev[child[a]] = b;
+		prev[b] = a;
+		child[a] = b;
+		
+		return a;
+	}
+	
+	/**
+	 * Combine a list of sibling trees into a single tree using the
+	 * standard two-pass pairing strategy
+	 * @param first The leftmost tree in the sibling list
+	 * @return The root of the combined tree
+	 */
+	private int combine(int first) {
+		if(first == NONE) return NONE;
+		
+		//First pass: link the siblings together in pairs, left to right
+		int num = 0;
+		int a = first;
+		
+		while(a != NONE) {
+			int b = sibling[a];
+			sibling[a] = NONE;
+			prev[a] = NONE;
+			
+			if(b == NONE) {
+				pairs[num++] = a;
+				break;
+			}
+			
+			int next = sibling[b];
+			sibling[b] = NONE;
+			prev[b] = NONE;
+			pairs[num++] = link(a, b);
+			a = next;
+		}
+		
+		//Second pass: fold the pairs together, right to left
+		int r = pairs[num - 1];
+		for(int i = num - 2; i >= 0; i--) {
+			r = link(pairs[i], r);
+		}
+		
+		return r;
+	}
+	
+	@Override
+	public void insert(int id, int priority) {
+		keys[id] = priority;
+		child[id] = NONE;
+		sibling[id] = NONE;
+		prev[id] = NONE;
+		queued[id] = true;
+		size++;
+		
+		root = (root == NONE) ? id : link(root, id);
+	}
+	
+	@Override
+	public int delete() {
+		int min = root;
+		
+		root = combine(child[min]);
+		child[min] = NONE;
+		queued[min] = false;
+		size--;
+		
+		return min;
+	}
+	
+	@Override
+	public void decreaseKey(int id, int priority) {
+		keys[id] = priority;
+		if(id == root) return;
+		
+		//Cut the subtree rooted at id out of its sibling list
+		int p = prev[id];
+		if(sibling[id] != NONE) prev[sibling[id]] = p;
+		if(child[p] == id) {
+			child[p] = sibling[id];
+		}
+		else {
+			sibling[p] = sibling[id];
+		}
+		sibling[id] = NONE;
+		prev[id] = NONE;
+		
+		root = link(root, id);
+	}
+	
+	@Override
+	public boolean contains(int id) {
+		return queued[id];
+	}
+	
+	@Override
+	public int getPriority(int id) {
+		return keys[id];
+	}
+	
+	@Override
+	public int size() {
+		return size;
+	}
+	
+	@Override
+	public boolean isEmpty() {
+		return size == 0;
+	}
+}
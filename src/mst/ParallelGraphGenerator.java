@@ -0,0 +1,305 @@
+package mst;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Future;
+
+/**
+ * The ParallelGraphGenerator class produces the same kind of random
+ * graph as GraphGenerator, but splits the work across threads. Every row
+ * of the vertex-pair space (vertex x paired with each y greater than x)
+ * draws from its own SplittableRandom, seeded from the graph seed, the
+ * attempt number and x alone. Rows are generated in parallel blocks and
+ * joined in row order, so the result is identical for any number of
+ * threads. It is not the same graph that GraphGenerator gives for the
+ * same seed, since the random sequences differ. Connectivity is tracked
+ * in a ConcurrentDisjointSet which every block unions into in parallel.
+ * One fork-join pool serves every attempt of generateConnected, and a
+ * single thread generates the blocks itself without a pool.
+ * @author Thomas LaSalle (tel5027)
+ */
+public class ParallelGraphGenerator {
+	
+	//Instance Variables
+	private ConcurrentDisjointSet components;
+	private ForkJoinPool pool;
+	private int n, threads, attempts;
+	private long seed;
+	private double p, sparseThreshold;
+	
+	//Constants
+	private final int MIN_WEIGHT = 1;
+	private final int BLOCKS_PER_THREAD = 4;
+	private static final long GOLDEN_GAMMA = 0x9E3779B97F4A7C15L;
+	
+	/**
+	 * Construct a new generator for the given graph parameters which
+	 * uses every available processor
+	 * @param n The number of vertices in the graph
+	 * @param seed The random number generator seed
+	 * @param p The probability that two vertices are connected via an edge
+	 */
+	public ParallelGraphGenerator(int n, long seed, double p) {
+		this(n, seed, p, Runtime.getRuntime().availableProcessors());
+	}
+	
+	/**
+	 * Construct a new generator for the given graph parameters
+	 * @param n The number of vertices in the graph
+	 * @param seed The random number generator seed
+	 * @param p The probability that two vertices are connected via an edge
+	 * @param threads The number of threads to generate with
+	 */
+	public ParallelGraphGenerator(int n, long seed, double p, int threads) {
+		this.n = n;
+		this.seed = seed;
+		this.p = p;
+		this.threads = Math.max(threads, 1);
+		
+		sparseThreshold = GraphGenerator.DEFAULT_SPARSE_THRESHOLD;
+		components = new ConcurrentDisjointSet(n);
+		attempts = 0;
+	}
+	
+	/**
+	 * Generate one random graph, passing each of its edges to the sink
+	 * in order of increasing start vertex, then increasing end vertex
+	 * @param sink The receiver of the generated edges
+	 */
+	public void generate(EdgeSink sink) {
+		boolean ownPool = (pool == null && threads > 1);
+		if(ownPool) pool = new ForkJoinPool(threads);
+		
+		try {
+			components.reset();
+			
+			for(EdgeList block : generateBlocks(attempts++)) {
+				for(int i = 0; i < block.size(); i++) {
+					sink.addEdge(block.getWeight(i), block.getStartVertex(i), 
+							block.getEndVertex(i));
+				}
+			}
+		}
+		finally {
+			if(ownPool) shutdownPool();
+		}
+	}
+	
+	/**
+	 * Generate random graphs until one is connected, clearing the
+	 * sink before each new attempt
+	 * @param sink The receiver of the generated edges
+	 * @param maxAttempts The number of graphs to try before giving up,
+	 *     or 0 to keep trying until a connected graph is found
+	 * @throws IllegalStateException if no connected graph was found
+	 *     within maxAttempts
+	 */
+	public void generateConnected(EdgeList sink, int maxAttempts) {
+		generateConnected(sink, sink::clear, maxAttempts);
+	}
+	
+	/**
+	 * Generate random graphs until one is connected, dropping each edge
+	 * straight into the bucket for its weight, as GraphGenerator does
+	 * @param sink The buckets to receive the generated edges, which must
+	 *     hold weights up to n
+	 * @param maxAttempts The number of graphs to try before giving up,
+	 *     or 0 to keep trying until a connected graph is found
+	 * @throws IllegalStateException if no connected graph was found
+	 *     within maxAttempts
+	 */
+	public void generateConnected(WeightBuckets sink, int maxAttempts) {
+		generateConnected(sink, sink::clear, maxAttempts);
+	}
+	
+	/**
+	 * Generate random graphs until one is connected, sharing one pool
+	 * between the attempts
+	 * @param sink The receiver of the generated edges
+	 * @param clear Empties the sink before each new attempt
+	 * @param maxAttempts The number of graphs to try before giving up,
+	 *     or 0 to keep trying until a connected graph is found
+	 */
+	private void generateConnected(EdgeSink sink, Runnable clear, int maxAttempts) {
+		if(threads > 1) pool = new ForkJoinPool(threads);
+		
+		try {
+			do {
+				if(maxAttempts > 0 && attempts >= maxAttempts) {
+					throw new IllegalStateException("Graph is not connected after " 
+							+ attempts + " attempts (" + getComponentCount() 
+							+ " components)");
+				}
+				
+				clear.run();
+				generate(sink);
+			} while(!isConnected());
+		}
+		finally {
+			shutdownPool();
+		}
+	}
+	
+	/**
+	 * Shut down the pool of the current generation, if there is one
+	 */
+	private void shutdownPool() {
+		if(pool != null) {
+			pool.shutdown();
+			pool = null;
+		}
+	}
+	
+	/**
+	 * Split the rows into blocks holding roughly equal numbers of vertex
+	 * pairs and generate the blocks, in parallel when there is a pool
+	 * @param attempt The attempt number, used to derive the row seeds
+	 * @return The edges of each block, in row order
+	 */
+	private List<EdgeList> generateBlocks(final int attempt) {
+		long pairs = (long) n * (n - 1) / 2;
+		int blocks = threads * BLOCKS_PER_THREAD;
+		List<Callable<EdgeList>> tasks = new ArrayList<Callable<EdgeList>>();
+		List<EdgeList> result = new ArrayList<EdgeList>();
+		
+		int first = 0;
+		long done = 0;
+		
+		for(int b = 1; b <= blocks && first < n; b++) {
+			long target = (pairs * b) / blocks;
+			int last = first;
+			
+			while(last < n && (done < target || last == first)) {
+				done += n - 1 - last;
+				last++;
+			}
+			
+			final int from = first;
+			final int to = last;
+			if(pool == null) {
+				result.add(generateBlock(from, to, attempt));
+			}
+			else {
+				tasks.add(() -> generateBlock(from, to, attempt));
+			}
+			first = last;
+		}
+		
+		if(pool == null) return result;
+		
+		try {
+			for(Future<EdgeList> f : pool.invokeAll(tasks)) {
+				result.add(f.get());
+			}
+		}
+		catch(InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new IllegalStateException("Graph generation was interrupted", e);
+		}
+		catch(ExecutionException e) {
+			throw new IllegalStateException("Graph generation failed", e.getCause());
+		}
+		
+		return result;
+	}
+	
+	/**
+	 * Generate the rows of one block and merge their components, which
+	 * other blocks may be doing at the same time
+	 * @param from The first row of the block
+	 * @param to The row after the last row of the block
+	 * @param attempt The attempt number
+	 * @return The edges of the block, in row order
+	 */
+	private EdgeList generateBlock(int from, int to, int attempt) {
+		EdgeList block = new EdgeList();
+		for(int x = from; x < to; x++) {
+			generateRow(x, attempt, block);
+		}
+		
+		for(int i = 0; i < block.size(); i++) {
+			components.union(block.getStartVertex(i), block.getEndVertex(i));
+		}
+		return block;
+	}
+	
+	/**
+	 * Generate the edges from vertex x to each vertex y greater than x
+	 * @param x The row's vertex
+	 * @param attempt The attempt number
+	 * @param block The list to add the row's edges to
+	 */
+	private void generateRow(int x, int attempt, EdgeList block) {
+		SplittableRandom rand = new SplittableRandom(rowSeed(x, attempt));
+		int range = n - MIN_WEIGHT + 1;
+		
+		if(p >= sparseThreshold) {
+			for(int y = (x + 1); y < n; y++) {
+				if(rand.nextDouble() <= p) {
+					block.addEdge(MIN_WEIGHT + rand.nextInt(range), x, y);
+				}
+			}
+			return;
+		}
+		
+		if(p <= 0.0) return;
+		
+		//Skip over the rejected pairs, as GraphGenerator does
+		double logQ = Math.log(1.0 - p);
+		long y = x;
+		
+		while(true) {
+			double gap = Math.floor(Math.log(1.0 - rand.nextDouble()) / logQ);
+			if(gap >= n) return;
+			
+			y += (long) gap + 1;
+			if(y >= n) return;
+			
+			block.addEdge(MIN_WEIGHT + rand.nextInt(range), x, (int) y);
+		}
+	}
+	
+	/**
+	 * Derive the seed of one row's random stream by mixing the graph
+	 * seed with the attempt number and row, as SplittableRandom mixes
+	 * its own seeds
+	 * @param x The row's vertex
+	 * @param attempt The attempt number
+	 * @return The row seed
+	 */
+	private long rowSeed(int x, int attempt) {
+		long z = seed + GOLDEN_GAMMA * (((long) attempt * n) + x + 1);
+		z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+		z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+		return z ^ (z >>> 31);
+	}
+	
+	/**
+	 * Get the number of connected components in the most recently
+	 * generated graph
+	 * @return The number of components
+	 */
+	public int getComponentCount() {
+		return components.getComponentCount();
+	}
+	
+	/**
+	 * Check to see if the most recently generated graph is connected
+	 * @return Whether the graph is connected or not
+	 */
+	public boolean isConnected() {
+		return attempts > 0 && components.getComponentCount() == 1;
+	}
+	
+	/**
+	 * Get the number of graphs generated so far
+	 * @return The number of calls to generate
+	 */
+	public int getAttempts() {
+		return attempts;
+	}
+}
@@ -0,0 +1,151 @@
+package mst;
+
+import java.util.Arrays;
+
+/**
+ * Class Prim houses our Prim's algorithm for selecting a
+ * minimum spanning tree from our randomly generated
+ * graph.
+ * @author Thomas LaSalle (tel5027)
+ */
+public class Prim {	
+
+	private IndexedPriorityQueue pq;
+	private int count;
+	
+	/**
+	 * Construct a new Prim's Algorithm object for use on CSR graphs,
+	 * using a binary heap as the priority queue
+	 * @param n The number of vertices
+	 */
+	public Prim(int n) {
+		this(n, new BinaryHeap(n));
+	}
+	
+	/**
+	 * Construct a new Prim's Algorithm object with the provided number
+	 * of Vertices and the priority queue implementation to use
+	 * @param n The number of vertices
+	 * @param pq An empty priority queue with a capacity of at least n
+	 */
+	public Prim(int n, IndexedPriorityQueue pq) {
+		this.pq = pq;
+		count = n;		
+	}
+	
+	/**
+	 * Perform the Prim's MST Algorithm directly on a CSR graph
+	 * @param graph The random generated graph
+	 * @return The edges of the minimum spanning tree
+	 */
+	public EdgeList PrimMST(CSRGraph graph){
+		int[] parent = new int[count];
+		int[] key = new int[count];
+		
+		Arrays.fill(key, Integer.MAX_VALUE);
+		grow(graph, parent, key);
+		
+		EdgeList mst = new EdgeList(Math.max(count - 1, 1));
+		for(int i = 1; i < count; i++) {
+			mst.addEdge(key[i], parent[i], i);
+		}
+		
+		return mst;
+	}
+	
+	/**
+	 * Perform the array-based O(V^2) version of Prim's MST Algorithm on
+	 * a flat weight matrix, such as AdjacencyMatrix.getWeightMatrix
+	 * returns. There is no priority queue: each step relaxes the row of
+	 * the vertex just added while scanning the same pass for the
+	 * lightest vertex left, so the work is sequential walks over plain
+	 * int arrays. This suits dense graphs, where E is close to V^2.
+	 * @param matrix The row-major n x n weight matrix, holding
+	 *     Integer.MAX_VALUE where there is no edge
+	 * @return The edges of the minimum spanning tree
+	 */
+	public EdgeList PrimMST(int[] matrix){
+		int[] parent = new int[count];
+		int[] key = new int[count];
+		boolean[] inTree = new boolean[count];
+		
+		Arrays.fill(key, Integer.MAX_VALUE);
+		Arrays.fill(parent, -1);
+		key[0] = 0;
+		
+		int u = 0;
+		
+		while(u != -1) {
+			inTree[u] = true;
+			
+			int row = u * count;
+			int next = -1;
+			int best = Integer.MAX_VALUE;
+			
+			//Relax the row of u and find the lightest vertex left in one pass
+			for(int v = 0; v < count; v++) {
+				if(inTree[v]) continue;
+				
+				int w = matrix[row + v];
+				if(w < key[v]) {
+					key[v] = w;
+					parent[v] = u;
+				}
+				if(key[v] < best) {
+					best = key[v];
+					next = v;
+				}
+			}
+			
+			u = next;
+		}
+		
+		EdgeList mst = new EdgeList(Math.max(count - 1, 1));
+		for(int i = 1; i < count; i++) {
+			mst.addEdge(key[i], parent[i], i);
+		}
+		
+		return mst;
+	}
+	
+	/**
+	 * Grow the minimum spanning tree from vertex 0, recording for each
+	 * vertex the weight of the edge which connects it to the tree and
+	 * the vertex at the other end of that edge.
+	 * @param graph The random generated graph
+	 * @param parent Receives the parent of each vertex (-1 for the root)
+	 * @param key Holds the starting priority of each vertex, and receives
+	 *     the weight of the edge to its parent
+	 */
+	private void grow(CSRGraph graph, int[] parent, int[] key){
+		int[] offsets = graph.getOffsets();
+		int[] targets = graph.getTargets();
+		int[] weights = graph.getWeights();
+		
+		Arrays.fill(parent, -1);
+		key[0] = 0;
+		
+		for(int i = 1; i < count; i++) {
+			pq.insert(i, key[i]);
+		}
+		
+		int u = 0;
+		int num = count-1;
+		
+		while(num > 0) {
+			
+			//Relax every edge leaving u through the weighted adjacency index
+			for(int i = offsets[u]; i < offsets[u + 1]; i++) {
+				int v = targets[i];
+				if(pq.contains(v) && weights[i] < key[v]) {
+					key[v] = weights[i];
+					parent[v] = u;
+					pq.decreaseKey(v, weights[i]);
+				}
+			}
+			
+			u = pq.delete();
+			num--;
+		}
+	}
+}
@@ -0,0 +1,915 @@
+package mst;
+
+import java.util.Arrays;
+import java.util.IntSummaryStatistics;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.stream.IntStream;
+
+/**
+ * The SortAlgorithm class provides the sorting algorithms used
+ * to sort the edges in our Randomly Generated Graph
+ * @author Thomas LaSalle (tel5027)
+ */
+public class SortAlgorithm {
+	
+	//Constants
+	private final int RADIX_BITS = 11;
+	private final int RADIX = 1 << RADIX_BITS;
+	private final int PARALLEL_RADIX_THRESHOLD = 1 << 16;
+	private final int RADIX_CHUNK_SIZE = 1 << 14;
+	private final int INSERTION_CUTOFF = 16;
+	private final int NINTHER_THRESHOLD = 64;
+	private final int PARALLEL_SORT_THRESHOLD = 1 << 13;
+	private final int COUNT_CHUNK_SIZE = 1 << 15;
+	
+	private static final int KEY_WEIGHT = 0;
+	private static final int KEY_START = 1;
+	private static final int KEY_END = 2;
+	
+	/**
+	 * Instantiate a new Sorter. No parameters are necessary
+	 */
+	public SortAlgorithm(){
+		//Initialize new Sorter
+	}
+	
+	/**
+	 * Perform a Quicksort on the provided Edge array, ordering the edges
+	 * as Edge.compareTo would. The sort is introspective: it partitions
+	 * three ways on the weight, then on the start and end vertex of
+	 * edges with equal weights, picks a median-of-three or ninther pivot,
+	 * finishes small ranges with an insertion sort, and falls back to a
+	 * heapsort when the partitions stay unbalanced for too long. Sorted
+	 * input and heavy ties therefore take O(E log E) time and the
+	 * recursion depth stays logarithmic.
+	 * @param edgeList The Edge List array to sort
+	 * @param left The left index to start sorting 
+	 * @param right The right index to start sorting
+	 * @return The sorted array of edges
+	 */
+	public Edge[] quickSort(Edge[] edgeList, int left, int right){
+		if(right <= left) return edgeList;		
+		
+		introSort(edgeList, left, right, 0, depthLimit(right - left + 1));
+		
+		return edgeList;
+	}
+	
+	/**
+	 * Perform the same Quicksort as quickSort on the provided Edge array,
+	 * sorting the partitions of large ranges in parallel on the common
+	 * fork-join pool
+	 * @param edgeList The Edge List array to sort
+	 * @param left The left index to start sorting 
+	 * @param right The right index to start sorting
+	 * @return The sorted array of edges
+	 */
+	public Edge[] parallelQuickSort(Edge[] edgeList, int left, int right){
+		if(right <= left) return edgeList;
+		
+		ForkJoinPool.commonPool().invoke(new QuickSortTask(edgeList, left, right, 0,
+				depthLimit(right - left + 1)));
+		
+		return edgeList;
+	}
+	
+	/**
+	 * Perform a Quicksort on the provided EdgeList, ordering the edges
+	 * as Edge.compareTo would: by weight, then start, then end vertex.
+	 * This is the same introsort as quickSort on an Edge array, so
+	 * sorted input and heavy ties take O(E log E) time and the recursion
+	 * depth stays logarithmic.
+	 * @param edgeList The EdgeList to sort
+	 * @param left The left index to start sorting 
+	 * @param right The right index to start sorting
+	 * @return The sorted EdgeList
+	 */
+	public EdgeList quickSort(EdgeList edgeList, int left, int right){
+		if(right <= left) return edgeList;		
+		
+		introSort(edgeList, left, right, 0, depthLimit(right - left + 1));
+		
+		return edgeList;
+	}
+	
+	/**
+	 * Perform a Count Sort on the provided Edge array
+	 * @param edgeList The Edge List array
+	 * @param radix The maximum weight size, used as the count array radix
+	 * @return The sorted array of edges
+	 */
+	public Edge[] countSort(Edge[] edgeList, int radix){
+		int N = edgeList.length;
+		int[] count = new int[radix+1];
+		Edge[] aux = new Edge[N];
+		
+		for(int i = 0; i < N; i++) {
+			count[edgeList[i].getWeight()]++;
+		}
+		
+		for(int r = 0; r < radix; r++) {
+			count[r+1] += count[r];
+		}
+		
+		for(int i = 0; i < N; i++) {
+			aux[(count[edgeList[i].getWeight()-1]++)] = edgeList[i];
+		}
+		
+		for(int i = 0; i < N; i++) {
+			edgeList[i] = aux[i];
+		}
+		
+		return edgeList;
+	}
+	
+	/**
+	 * Perform a stable Count Sort on the provided EdgeList. An edge list
+	 * which is ordered by start and end vertex, such as the one returned
+	 * by CSRGraph.getEdges, comes out in the same order as Edge.compareTo
+	 * would give.
+	 * @param edgeList The EdgeList
+	 * @param radix The maximum weight size, used as the count array radix
+	 * @return A new EdgeList holding the sorted edges
+	 */
+	public EdgeList countSort(EdgeList edgeList, int radix){
+		int N = edgeList.size();
+		int[] count = new int[radix+1];
+		int[] w = edgeList.getWeights();
+		int[] s = edgeList.getStartVertices();
+		int[] e = edgeList.getEndVertices();
+		int[] auxW = new int[N];
+		int[] auxS = new int[N];
+		int[] auxE = new int[N];
+		
+		for(int i = 0; i < N; i++) {
+			count[w[i]]++;
+		}
+		
+		for(int r = 0; r < radix; r++) {
+			count[r+1] += count[r];
+		}
+		
+		for(int i = 0; i < N; i++) {
+			int k = count[w[i]-1]++;
+			auxW[k] = w[i];
+			auxS[k] = s[i];
+			auxE[k] = e[i];
+		}
+		
+		return new EdgeList(auxW, auxS, auxE, N);
+	}
+	
+	/**
+	 * Perform a stable, parallel Count Sort on the provided Edge array.
+	 * The range of the weights is found rather than assumed, each worker
+	 * counts the weights of its own slice of the array, and the edges
+	 * are scattered straight into the result with no copy back.
+	 * @param edgeList The Edge List array
+	 * @return A new array holding the sorted edges
+	 */
+	public Edge[] parallelCountSort(final Edge[] edgeList) {
+		final int N = edgeList.length;
+		final int[] w = new int[N];
+		final Edge[] sorted = new Edge[N];
+		
+		IntStream.range(0, N).parallel().forEach(i -> w[i] = edgeList[i].getWeight());
+		
+		final int chunks = countChunks(N);
+		final IntSummaryStatistics range = Arrays.stream(w, 0, N).parallel().summaryStatistics();
+		final int[][] slot = countSlots(w, N, chunks, range);
+		final int min = range.getMin();
+		
+		IntStream.range(0, chunks).parallel().forEach(c -> {
+			int[] local = slot[c];
+			for(int i = chunkStart(N, chunks, c); i < chunkStart(N, chunks, c + 1); i++) {
+				sorted[local[w[i] - min]++] = edgeList[i];
+			}
+		});
+		
+		return sorted;
+	}
+	
+	/**
+	 * Perform a stable, parallel Count Sort on the provided EdgeList, in
+	 * the same way as parallelCountSort on an Edge array. An edge list
+	 * which is ordered by start and end vertex, such as the one returned
+	 * by CSRGraph.getEdges, comes out in the same order as Edge.compareTo
+	 * would give.
+	 * @param edgeList The EdgeList
+	 * @return A new EdgeList holding the sorted edges
+	 */
+	public EdgeList parallelCountSort(EdgeList edgeList) {
+		final int N = edgeList.size();
+		final int[] w = edgeList.getWeights();
+		final int[] s = edgeList.getStartVertices();
+		final int[] e = edgeList.getEndVertices();
+		final int[] auxW = new int[N];
+		final int[] auxS = new int[N];
+		final int[] auxE = new int[N];
+		
+		final int chunks = countChunks(N);
+		final IntSummaryStatistics range = Arrays.stream(w, 0, N).parallel().summaryStatistics();
+		final int[][] slot = countSlots(w, N, chunks, range);
+		final int min = range.getMin();
+		
+		IntStream.range(0, chunks).parallel().forEach(c -> {
+			int[] local = slot[c];
+			for(int i = chunkStart(N, chunks, c); i < chunkStart(N, chunks, c + 1); i++) {
+				int k = local[w[i] - min]++;
+				auxW[k] = w[i];
+				auxS[k] = s[i];
+				auxE[k] = e[i];
+			}
+		});
+		
+		return new EdgeList(auxW, auxS, auxE, N);
+	}
+	
+	/**
+	 * Perform a stable, parallel Count Sort on the provided EdgeList in
+	 * the same way as parallelCountSort, scattering the edges straight
+	 * into packed form for Kruskal.KruskalMST(long[], int)
+	 * @param edgeList The EdgeList
+	 * @return An array holding exactly edgeList.size() packed edges
+	 * @throws IllegalArgumentException If a weight or vertex does not fit
+	 *     in a packed edge, see PackedEdge
+	 */
+	public long[] parallelCountSortPacked(EdgeList edgeList) {
+		final int N = edgeList.size();
+		final int[] w = edgeList.getWeights();
+		final int[] s = edgeList.getStartVertices();
+		final int[] e = edgeList.getEndVertices();
+		final long[] packed = new long[N];
+		
+		final int chunks = countChunks(N);
+		final IntSummaryStatistics range = Arrays.stream(w, 0, N).parallel().summaryStatistics();
+		final int[][] slot = countSlots(w, N, chunks, range);
+		final int min = range.getMin();
+		
+		IntStream.range(0, chunks).parallel().forEach(c -> {
+			int[] local = slot[c];
+			for(int i = chunkStart(N, chunks, c); i < chunkStart(N, chunks, c + 1); i++) {
+				if((w[i] | s[i] | e[i]) < 0 || Math.max(w[i], Math.max(s[i], e[i])) > PackedEdge.MAX_VALUE) {
+					throw new IllegalArgumentException("Edge " + edgeList.toString(i)
+							+ " does not fit in a packed edge");
+				}
+				packed[local[w[i] - min]++] = PackedEdge.pack(w[i], s[i], e[i]);
+			}
+		});
+		
+		return packed;
+	}
+	
+	/**
+	 * Choose how many slices a parallel Count Sort splits its edges
+	 * into: one per worker of the common pool, but none smaller than
+	 * COUNT_CHUNK_SIZE, so that the per-slice counts stay small
+	 * @param N The number of edges
+	 * @return The number of slices
+	 */
+	private int countChunks(int N) {
+		int workers = ForkJoinPool.getCommonPoolParallelism();
+		return Math.max(1, Math.min(workers, N / COUNT_CHUNK_SIZE));
+	}
+	
+	/**
+	 * Find the first index of a slice of the edges
+	 * @param N The number of edges
+	 * @param chunks The number of slices
+	 * @param c The slice
+	 * @return The first index of the slice, or N when c is chunks
+	 */
+	private static int chunkStart(int N, int chunks, int c) {
+		return (int) (((long) N * c) / chunks);
+	}
+	
+	/**
+	 * Count the weights of each slice of the edges in parallel, and turn
+	 * the counts into the first slot each slice writes each weight to.
+	 * The slots are laid out weight by weight, slice by slice, so the
+	 * sort is stable and every slice scatters into its own slots.
+	 * @param w The weights
+	 * @param N The number of weights
+	 * @param chunks The number of slices
+	 * @param stats The smallest and largest of the weights
+	 * @return For each slice, the first slot of each weight, indexed
+	 *     from the smallest weight
+	 */
+	private int[][] countSlots(final int[] w, final int N, final int chunks, IntSummaryStatistics stats) {
+		if(N == 0) return new int[chunks][0];
+		
+		final int min = stats.getMin();
+		final int range = (int) ((long) stats.getMax() - min + 1);
+		final int[][] slot = new int[chunks][range];
+		
+		IntStream.range(0, chunks).parallel().forEach(c -> {
+			int[] local = slot[c];
+			for(int i = chunkStart(N, chunks, c); i < chunkStart(N, chunks, c + 1); i++) {
+				local[w[i] - min]++;
+			}
+		});
+		
+		int next = 0;
+		for(int r = 0; r < range; r++) {
+			for(int c = 0; c < chunks; c++) {
+				int num = slot[c][r];
+				slot[c][r] = next;
+				next += num;
+			}
+		}
+		
+		return slot;
+	}
+	
+	/**
+	 * Perform a least significant digit Radix Sort on an array of packed
+	 * edges, ordering them by weight, then start, then end vertex. Only
+	 * the digits in which the edges differ are sorted, so a pass costs
+	 * two walks over the edges and no Edge objects are created. Arrays
+	 * larger than PARALLEL_RADIX_THRESHOLD are sorted in parallel.
+	 * @param packed The packed edges, see PackedEdge
+	 * @param size The number of edges at the front of the array to sort
+	 * @return The sorted array of packed edges
+	 */
+	public long[] radixSort(long[] packed, int size) {
+		long[] aux = new long[size];
+		long[] src = packed, dst = aux;
+		
+		//Bits which differ between edges; digits above them are all equal
+		long differ = 0;
+		for(int i = 1; i < size; i++) {
+			differ |= packed[i] ^ packed[0];
+		}
+		
+		for(int shift = 0; shift < Long.SIZE && (differ >>> shift) != 0; shift += RADIX_BITS) {
+			if(((differ >>> shift) & (RADIX - 1)) == 0) continue;
+			
+			if(size >= PARALLEL_RADIX_THRESHOLD) {
+				parallelRadixPass(src, dst, size, shift);
+			}
+			else {
+				radixPass(src, dst, size, shift);
+			}
+			
+			long[] temp = src;
+			src = dst;
+			dst = temp;
+		}
+		
+		if(src != packed) {
+			System.arraycopy(src, 0, packed, 0, size);
+		}
+		
+		return packed;
+	}
+	
+	/**
+	 * Stably scatter packed edges from one array into another by a
+	 * single RADIX_BITS wide digit
+	 * @param src The packed edges to scatter
+	 * @param dst The array to receive the edges
+	 * @param size The number of edges
+	 * @param shift The position of the digit's lowest bit
+	 */
+	private void radixPass(long[] src, long[] dst, int size, int shift) {
+		int[] count = new int[RADIX + 1];
+		
+		for(int i = 0; i < size; i++) {
+			count[(int) ((src[i] >>> shift) & (RADIX - 1)) + 1]++;
+		}
+		
+		for(int r = 0; r < RADIX; r++) {
+			count[r+1] += count[r];
+		}
+		
+		for(int i = 0; i < size; i++) {
+			dst[count[(int) ((src[i] >>> shift) & (RADIX - 1))]++] = src[i];
+		}
+	}
+	
+	/**
+	 * Stably scatter packed edges from one array into another by a
+	 * single RADIX_BITS wide digit, in parallel. Each chunk of the edges
+	 * counts its own digits, and the counts are laid out digit by digit,
+	 * chunk by chunk, so every chunk scatters into its own slots.
+	 * @param src The packed edges to scatter
+	 * @param dst The array to receive the edges
+	 * @param size The number of edges
+	 * @param shift The position of the digit's lowest bit
+	 */
+	private void parallelRadixPass(final long[] src, final long[] dst, final int size, final int shift) {
+		final int chunks = (size + RADIX_CHUNK_SIZE - 1) / RADIX_CHUNK_SIZE;
+		final int[][] count = new int[chunks][RADIX];
+		
+		IntStream.range(0, chunks).parallel().forEach(c -> {
+			int[] local = count[c];
+			for(int i = c * RADIX_CHUNK_SIZE; i < Math.min(size, (c + 1) * RADIX_CHUNK_SIZE); i++) {
+				local[(int) ((src[i] >>> shift) & (RADIX - 1))]++;
+			}
+		});
+		
+		//Turn the counts into the first slot of each digit in each chunk
+		int next = 0;
+		for(int r = 0; r < RADIX; r++) {
+			for(int c = 0; c < chunks; c++) {
+				int num = count[c][r];
+				count[c][r] = next;
+				next += num;
+			}
+		}
+		
+		IntStream.range(0, chunks).parallel().forEach(c -> {
+			int[] local = count[c];
+			for(int i = c * RADIX_CHUNK_SIZE; i < Math.min(size, (c + 1) * RADIX_CHUNK_SIZE); i++) {
+				dst[local[(int) ((src[i] >>> shift) & (RADIX - 1))]++] = src[i];
+			}
+		});
+	}
+	
+	/**
+	 * Perform an Insertion Sort on the provided array
+	 * of Edges.
+	 * @param edgeList The Edge List array
+	 * @return The sorted array of edges
+	 */
+	public Edge[] insertionSort(Edge[] edgeList){
+		int N = edgeList.length;
+		
+		for(int i = 0; i < N; i++) {
+			for(int j = i; j > 0; j--) {
+				if(edgeList[j].compareTo(edgeList[j-1]) < 0) {
+					swap(edgeList, j, (j-1));
+				}
+			}
+		}
+		return edgeList;
+	}
+	
+	/**
+	 * The swap method swaps the elements of the array where
+	 * necessary
+	 * @param edgeList The Edge list array
+	 * @param left The left element
+	 * @param right The right element
+	 */
+	private void swap(Edge[] edgeList, int left, int right) {
+		Edge temp;
+		
+		temp = edgeList[left];
+		edgeList[left] = edgeList[right];
+		edgeList[right] = temp;
+	}
+	
+	/**
+	 * Sort a range of the Edge array, all of whose edges agree on the
+	 * keys before the given one. The range is split three ways on the
+	 * key; the smaller and larger parts are sorted on the same key, and
+	 * the equal part on the next key.
+	 * @param edgeList The Edge List array to sort
+	 * @param low The first index of the range
+	 * @param hi The last index of the range
+	 * @param key The key to partition on: weight, start, then end
+	 * @param depth The number of partitions left before heapsort is used
+	 */
+	private void introSort(Edge[] edgeList, int low, int hi, int key, int depth) {
+		while(hi - low >= INSERTION_CUTOFF) {
+			if(depth-- == 0) {
+				heapSort(edgeList, low, hi);
+				return;
+			}
+			
+			long bounds = partition(edgeList, low, hi, key);
+			int lt = (int) (bounds >>> 32);
+			int gt = (int) bounds;
+			
+			introSort(edgeList, low, (lt - 1), key, depth);
+			if(key < KEY_END) {
+				introSort(edgeList, lt, gt, (key + 1), depthLimit(gt - lt + 1));
+			}
+			low = gt + 1;
+		}
+		
+		insertionSort(edgeList, low, hi);
+	}
+	
+	/**
+	 * The partition method divides a range of the Edge array three ways
+	 * around a pivot key, for use by the Quicksort algorithm
+	 * @param edgeList The Edge List array to sort
+	 * @param low The low (left) side from the pivot
+	 * @param hi The high (right) side from the pivot
+	 * @param key The key to partition on
+	 * @return The first index equal to the pivot in the high 32 bits,
+	 *     and the last index equal to the pivot in the low 32 bits
+	 */
+	private long partition(Edge[] edgeList, int low, int hi, int key) {
+		int pivot = key(edgeList[choosePivot(edgeList, low, hi, key)], key);
+		int lt = low;
+		int gt = hi;
+		int i = low;
+		
+		while(i <= gt) {
+			int k = key(edgeList[i], key);
+			if(k < pivot) swap(edgeList, lt++, i++);
+			else if(k > pivot) swap(edgeList, i, gt--);
+			else i++;
+		}
+		
+		return ((long) lt << 32) | gt;
+	}
+	
+	/**
+	 * Choose the index of a pivot for a range of the Edge array: the
+	 * median of three edges, or the median of three such medians for
+	 * larger ranges
+	 * @param edgeList The Edge List array
+	 * @param low The first index of the range
+	 * @param hi The last index of the range
+	 * @param key The key to compare
+	 * @return The index of the pivot
+	 */
+	private int choosePivot(Edge[] edgeList, int low, int hi, int key) {
+		int mid = low + ((hi - low) / 2);
+		
+		if(hi - low < NINTHER_THRESHOLD) {
+			return median(edgeList, low, mid, hi, key);
+		}
+		
+		int step = (hi - low) / 8;
+		return median(edgeList,
+				median(edgeList, low, (low + step), (low + 2*step), key),
+				median(edgeList, (mid - step), mid, (mid + step), key),
+				median(edgeList, (hi - 2*step), (hi - step), hi, key), key);
+	}
+	
+	/**
+	 * Find the index of the median of three edges
+	 * @param edgeList The Edge List array
+	 * @param a The index of the first edge
+	 * @param b The index of the second edge
+	 * @param c The index of the third edge
+	 * @param key The key to compare
+	 * @return The index of the median edge
+	 */
+	private int median(Edge[] edgeList, int a, int b, int c, int key) {
+		int ka = key(edgeList[a], key);
+		int kb = key(edgeList[b], key);
+		int kc = key(edgeList[c], key);
+		
+		if(ka < kb) {
+			return (kb < kc) ? b : ((ka < kc) ? c : a);
+		}
+		return (ka < kc) ? a : ((kb < kc) ? c : b);
+	}
+	
+	/**
+	 * Get one of the keys Edge.compareTo orders edges by
+	 * @param edge The edge
+	 * @param key KEY_WEIGHT, KEY_START or KEY_END
+	 * @return The value of the key
+	 */
+	private static int key(Edge edge, int key) {
+		if(key == KEY_WEIGHT) return edge.getWeight();
+		if(key == KEY_START) return edge.getStartVertex();
+		return edge.getEndVertex();
+	}
+	
+	/**
+	 * Find how many partitions a range may take before heapsort is used
+	 * @param size The number of edges in the range
+	 * @return Twice the base 2 logarithm of the size
+	 */
+	private static int depthLimit(int size) {
+		return 2 * (31 - Integer.numberOfLeadingZeros(Math.max(size, 1)));
+	}
+	
+	/**
+	 * Perform an Insertion Sort on a range of the Edge array, shifting
+	 * larger edges up rather than swapping them
+	 * @param edgeList The Edge List array
+	 * @param low The first index of the range
+	 * @param hi The last index of the range
+	 */
+	private void insertionSort(Edge[] edgeList, int low, int hi) {
+		for(int i = low + 1; i <= hi; i++) {
+			Edge edge = edgeList[i];
+			int j = i;
+			
+			while(j > low && edge.compareTo(edgeList[j-1]) < 0) {
+				edgeList[j] = edgeList[j-1];
+				j--;
+			}
+			edgeList[j] = edge;
+		}
+	}
+	
+	/**
+	 * Perform a Heapsort on a range of the Edge array
+	 * @param edgeList The Edge List array
+	 * @param low The first index of the range
+	 * @param hi The last index of the range
+	 */
+	private void heapSort(Edge[] edgeList, int low, int hi) {
+		int size = hi - low + 1;
+		
+		for(int k = (size / 2) - 1; k >= 0; k--) {
+			siftDown(edgeList, low, k, size);
+		}
+		
+		while(size > 1) {
+			size--;
+			swap(edgeList, low, (low + size));
+			siftDown(edgeList, low, 0, size);
+		}
+	}
+	
+	/**
+	 * Sink an edge down a max heap held in a range of the Edge array
+	 * @param edgeList The Edge List array
+	 * @param low The first index of the heap
+	 * @param k The position of the edge to sink within the heap
+	 * @param size The number of edges in the heap
+	 */
+	private void siftDown(Edge[] edgeList, int low, int k, int size) {
+		Edge edge = edgeList[low + k];
+		
+		while((2*k) + 1 < size) {
+			int j = (2*k) + 1;
+			if(j + 1 < size && edgeList[low + j].compareTo(edgeList[low + j + 1]) < 0) j++;
+			if(edgeList[low + j].compareTo(edge) <= 0) break;
+			
+			edgeList[low + k] = edgeList[low + j];
+			k = j;
+		}
+		
+		edgeList[low + k] = edge;
+	}
+	
+	/**
+	 * The QuickSortTask sorts a range of an Edge array in the same way
+	 * as introSort, forking the partitions of ranges larger than
+	 * PARALLEL_SORT_THRESHOLD as separate tasks
+	 */
+	private class QuickSortTask extends RecursiveAction {
+		
+		private static final long serialVersionUID = 1L;
+		
+		//Instance Variables
+		private final Edge[] edgeList;
+		private final int low, hi, key, depth;
+		
+		/**
+		 * Construct a new task to sort a range of the Edge array
+		 * @param edgeList The Edge List array
+		 * @param low The first index of the range
+		 * @param hi The last index of the range
+		 * @param key The key to partition on
+		 * @param depth The number of partitions left before heapsort is used
+		 */
+		QuickSortTask(Edge[] edgeList, int low, int hi, int key, int depth) {
+			this.edgeList = edgeList;
+			this.low = low;
+			this.hi = hi;
+			this.key = key;
+			this.depth = depth;
+		}
+		
+		@Override
+		protected void compute() {
+			if(hi - low < PARALLEL_SORT_THRESHOLD || depth == 0) {
+				if(hi > low) introSort(edgeList, low, hi, key, depth);
+				return;
+			}
+			
+			long bounds = partition(edgeList, low, hi, key);
+			int lt = (int) (bounds >>> 32);
+			int gt = (int) bounds;
+			
+			if(key < KEY_END) {
+				invokeAll(new QuickSortTask(edgeList, low, (lt - 1), key, (depth - 1)),
+						new QuickSortTask(edgeList, lt, gt, (key + 1), depthLimit(gt - lt + 1)),
+						new QuickSortTask(edgeList, (gt + 1), hi, key, (depth - 1)));
+			}
+			else {
+				invokeAll(new QuickSortTask(edgeList, low, (lt - 1), key, (depth - 1)),
+						new QuickSortTask(edgeList, (gt + 1), hi, key, (depth - 1)));
+			}
+		}
+	}
+	
+	/**
+	 * Compare two edges of an EdgeList in the same way as Edge.compareTo
+	 * @param edgeList The EdgeList
+	 * @param i The index of the first edge
+	 * @param j The index of the second edge
+	 * @return A negative, zero or positive number as the first edge is
+	 *     less than, equal to or greater than the second
+	 */
+	private int compare(EdgeList edgeList, int i, int j) {
+		int[] w = edgeList.getWeights();
+		int[] s = edgeList.getStartVertices();
+		int[] e = edgeList.getEndVertices();
+		
+		if(w[i] != w[j]) return (w[i] < w[j]) ? -1 : 1;
+		if(s[i] != s[j]) return (s[i] < s[j]) ? -1 : 1;
+		return Integer.compare(e[i], e[j]);
+	}
+	
+	/**
+	 * The swap method swaps two edges of an EdgeList
+	 * @param edgeList The EdgeList
+	 * @param left The left element
+	 * @param right The right element
+	 */
+	private void swap(EdgeList edgeList, int left, int right) {
+		int[] w = edgeList.getWeights();
+		int[] s = edgeList.getStartVertices();
+		int[] e = edgeList.getEndVertices();
+		int temp;
+		
+		temp = w[left]; w[left] = w[right]; w[right] = temp;
+		temp = s[left]; s[left] = s[right]; s[right] = temp;
+		temp = e[left]; e[left] = e[right]; e[right] = temp;
+	}
+	
+	/**
+	 * Sort a range of the EdgeList in the same way as introSort sorts a
+	 * range of an Edge array
+	 * @param edgeList The EdgeList to sort
+	 * @param low The first index of the range
+	 * @param hi The last index of the range
+	 * @param key The key to partition on: weight, start, then end
+	 * @param depth The number of partitions left before heapsort is used
+	 */
+	private void introSort(EdgeList edgeList, int low, int hi, int key, int depth) {
+		while(hi - low >= INSERTION_CUTOFF) {
+			if(depth-- == 0) {
+				heapSort(edgeList, low, hi);
+				return;
+			}
+			
+			long bounds = partition(edgeList, low, hi, key);
+			int lt = (int) (bounds >>> 32);
+			int gt = (int) bounds;
+			
+			introSort(edgeList, low, (lt - 1), key, depth);
+			if(key < KEY_END) {
+				introSort(edgeList, lt, gt, (key + 1), depthLimit(gt - lt + 1));
+			}
+			low = gt + 1;
+		}
+		
+		insertionSort(edgeList, low, hi);
+	}
+	
+	/**
+	 * The partition method divides a range of the EdgeList three ways
+	 * around a pivot key, for use by the Quicksort algorithm
+	 * @param edgeList The EdgeList to sort
+	 * @param low The low (left) side from the pivot
+	 * @param hi The high (right) side from the pivot
+	 * @param key The key to partition on
+	 * @return The first index equal to the pivot in the high 32 bits,
+	 *     and the last index equal to the pivot in the low 32 bits
+	 */
+	private long partition(EdgeList edgeList, int low, int hi, int key) {
+		int[] keys = keys(edgeList, key);
+		int pivot = keys[choosePivot(keys, low, hi)];
+		int lt = low;
+		int gt = hi;
+		int i = low;
+		
+		while(i <= gt) {
+			int k = keys[i];
+			if(k < pivot) swap(edgeList, lt++, i++);
+			else if(k > pivot) swap(edgeList, i, gt--);
+			else i++;
+		}
+		
+		return ((long) lt << 32) | gt;
+	}
+	
+	/**
+	 * Choose the index of a pivot for a range of one key of an EdgeList,
+	 * in the same way as for an Edge array
+	 * @param keys The key of each edge
+	 * @param low The first index of the range
+	 * @param hi The last index of the range
+	 * @return The index of the pivot
+	 */
+	private int choosePivot(int[] keys, int low, int hi) {
+		int mid = low + ((hi - low) / 2);
+		
+		if(hi - low < NINTHER_THRESHOLD) {
+			return median(keys, low, mid, hi);
+		}
+		
+		int step = (hi - low) / 8;
+		return median(keys,
+				median(keys, low, (low + step), (low + 2*step)),
+				median(keys, (mid - step), mid, (mid + step)),
+				median(keys, (hi - 2*step), (hi - step), hi));
+	}
+	
+	/**
+	 * Find the index of the median of three keys
+	 * @param keys The key of each edge
+	 * @param a The index of the first edge
+	 * @param b The index of the second edge
+	 * @param c The index of the third edge
+	 * @return The index of the median edge
+	 */
+	private int median(int[] keys, int a, int b, int c) {
+		int ka = keys[a];
+		int kb = keys[b];
+		int kc = keys[c];
+		
+		if(ka < kb) {
+			return (kb < kc) ? b : ((ka < kc) ? c : a);
+		}
+		return (ka < kc) ? a : ((kb < kc) ? c : b);
+	}
+	
+	/**
+	 * Get the array holding one of the keys Edge.compareTo orders edges by
+	 * @param edgeList The EdgeList
+	 * @param key KEY_WEIGHT, KEY_START or KEY_END
+	 * @return The weights, start vertices or end vertices
+	 */
+	private static int[] keys(EdgeList edgeList, int key) {
+		if(key == KEY_WEIGHT) return edgeList.getWeights();
+		if(key == KEY_START) return edgeList.getStartVertices();
+		return edgeList.getEndVertices();
+	}
+	
+	/**
+	 * Perform an Insertion Sort on a range of the EdgeList, shifting
+	 * larger edges up rather than swapping them
+	 * @param edgeList The EdgeList
+	 * @param low The first index of the range
+	 * @param hi The last index of the range
+	 */
+	private void insertionSort(EdgeList edgeList, int low, int hi) {
+		int[] w = edgeList.getWeights();
+		int[] s = edgeList.getStartVertices();
+		int[] e = edgeList.getEndVertices();
+		
+		for(int i = low + 1; i <= hi; i++) {
+			int weight = w[i];
+			int start = s[i];
+			int end = e[i];
+			int j = i;
+			
+			while(j > low && (weight < w[j-1] || (weight == w[j-1] 
+					&& (start < s[j-1] || (start == s[j-1] && end < e[j-1]))))) {
+				w[j] = w[j-1];
+				s[j] = s[j-1];
+				e[j] = e[j-1];
+				j--;
+			}
+			w[j] = weight;
+			s[j] = start;
+			e[j] = end;
+		}
+	}
+	
+	/**
+	 * Perform a Heapsort on a range of the EdgeList
+	 * @param edgeList The EdgeList
+	 * @param low The first index of the range
+	 * @param hi The last index of the range
+	 */
+	private void heapSort(EdgeList edgeList, int low, int hi) {
+		int size = hi - low + 1;
+		
+		for(int k = (size / 2) - 1; k >= 0; k--) {
+			siftDown(edgeList, low, k, size);
+		}
+		
+		while(size > 1) {
+			size--;
+			swap(edgeList, low, (low + size));
+			siftDown(edgeList, low, 0, size);
+		}
+	}
+	
+	/**
+	 * Sink an edge down a max heap held in a range of the EdgeList
+	 * @param edgeList The EdgeList
+	 * @param low The first index of the heap
+	 * @param k The position of the edge to sink within the heap
+	 * @param size The number of edges in the heap
+	 */
+	private void siftDown(EdgeList edgeList, int low, int k, int size) {
+		while((2*k) + 1 < size) {
+			int j = (2*k) + 1;
+			if(j + 1 < size && compare(edgeList, (low + j), (low + j + 1)) < 0) j++;
+			if(compare(edgeList, (low + j), (low + k)) <= 0) break;
+			
+			swap(edgeList, (low + k), (low + j));
+			k = j;
+		}
+	}
+
+}
@@ -0,0 +1,613 @@
+package mst;
+
+import java.io.BufferedReader;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.FileReader;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.PrintWriter;
+import java.io.RandomAccessFile;
+import java.io.UncheckedIOException;
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryPoolMXBean;
+import java.lang.management.MemoryType;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * The SweepRunner class measures how the cost of the minimum spanning
+ * tree variants scales with n and p. It runs every combination of the
+ * given vertex counts, edge probabilities and seeds, repeating each one,
+ * and writes one machine-readable row per variant and repetition: the
+ * time to generate the graph, the time to sort or otherwise prepare the
+ * edges, the time to build the tree, the edge count, the total weight
+ * and the peak heap use.
+ *
+ * Rows are appended to the output file as they are measured, as CSV or
+ * as one JSON object per line. If the file already holds rows, those
+ * points are skipped, so an interrupted sweep resumes where it stopped.
+ *
+ * Usage: java mst.SweepRunner -n 1000,2000 -p 0.01..0.05+0.01 -seeds 1..3
+ *     [-variants count-kruskal,dense-prim] [-reps 3] [-attempts 100]
+ *     [-gen-threads 4] [-format csv|json] -out results.csv
+ *
+ * A range is a comma separated list of values or ranges, where a..b+s
+ * steps from a to b by s and a..b*f multiplies by f. With -gen-threads
+ * the graphs come from the ParallelGraphGenerator, which gives different
+ * graphs than the default generator, so a results file should only be
+ * resumed with the same setting.
+ * @author Thomas LaSalle (tel5027)
+ */
+public class SweepRunner {
+	
+	/**
+	 * The variants a sweep can measure. Each has a preparation step,
+	 * timed as the sort, and a tree step.
+	 */
+	public enum Variant {
+		INSERTION_KRUSKAL, QUICKSORT_KRUSKAL, COUNT_KRUSKAL, RADIX_KRUSKAL,
+		BUCKET_KRUSKAL, FILTER_KRUSKAL, LAZY_KRUSKAL, HEAP_PRIM, DENSE_PRIM,
+		PARALLEL_BORUVKA;
+		
+		/**
+		 * Get the name of the variant as it is given on the command line
+		 * and written to the results
+		 * @return The name, such as count-kruskal
+		 */
+		public String getName() {
+			return name().toLowerCase(Locale.ROOT).replace('_', '-');
+		}
+		
+		/**
+		 * Find a variant by the name getName gives
+		 * @param name The name
+		 * @return The variant
+		 * @throws IllegalArgumentException If there is no such variant
+		 */
+		public static Variant forName(String name) {
+			for(Variant v : values()) {
+				if(v.getName().equals(name)) return v;
+			}
+			throw new IllegalArgumentException("Unknown variant: " + name);
+		}
+	}
+	
+	//Instance Variables
+	private int[] sizes;
+	private double[] probabilities;
+	private long[] seeds;
+	private List<Variant> variants;
+	private int reps, maxAttempts, generatorThreads;
+	private boolean json;
+	
+	private SortAlgorithm sort = new SortAlgorithm();
+	private List<MemoryPoolMXBean> heapPools = new ArrayList<MemoryPoolMXBean>();
+	
+	//Constants
+	private static final String CSV_HEADER =
+			"n,p,seed,variant,rep,edges,total_weight,gen_ms,sort_ms,mst_ms,peak_bytes";
+	private static final Pattern JSON_KEY = Pattern.compile(
+			"\"n\":(\\d+),\"p\":([^,]+),\"seed\":(-?\\d+),\"variant\":\"([^\"]+)\",\"rep\":(\\d+)");
+	
+	/**
+	 * Construct a new sweep over every combination of the given values
+	 * @param sizes The numbers of vertices
+	 * @param probabilities The edge probabilities
+	 * @param seeds The random number generator seeds
+	 * @param variants The variants to measure at each point
+	 * @param reps The number of times to measure each point
+	 * @param maxAttempts The number of graphs to try at each point before
+	 *     skipping it, or 0 to keep trying until a connected graph is found
+	 * @param generatorThreads The number of threads to generate each graph
+	 *     with, or 0 to use the single-threaded GraphGenerator
+	 * @param json Whether to write JSON lines rather than CSV
+	 */
+	public SweepRunner(int[] sizes, double[] probabilities, long[] seeds, List<Variant> variants,
+			int reps, int maxAttempts, int generatorThreads, boolean json) {
+		this.sizes = sizes;
+		this.probabilities = probabilities;
+		this.seeds = seeds;
+		this.variants = variants;
+		this.reps = reps;
+		this.maxAttempts = maxAttempts;
+		this.generatorThreads = generatorThreads;
+		this.json = json;
+		
+		for(MemoryPoolMXBean pool : ManagementFactory.getMemoryPoolMXBeans()) {
+			if(pool.getType() == MemoryType.HEAP) heapPools.add(pool);
+		}
+	}
+	
+	/**
+	 * Run the sweep, appending a row to the file for each variant and
+	 * repetition of each point which the file does not already hold
+	 * @param file The results file
+	 * @return The number of rows written
+	 * @throws UncheckedIOException If the file could not be read or written
+	 */
+	public int run(File file) {
+		Set<String> done = readCompleted(file);
+		boolean header = !json && done.isEmpty() && (!file.exists() || file.length() == 0);
+		int written = 0;
+		
+		try(PrintWriter out = new PrintWriter(new OutputStreamWriter(
+				new FileOutputStream(file, true), StandardCharsets.UTF_8))) {
+			if(header) out.println(CSV_HEADER);
+			if(endsMidLine(file)) out.println();
+			
+			for(int n : sizes) {
+				for(double p : probabilities) {
+					for(long seed : seeds) {
+						for(int rep = 0; rep < reps; rep++) {
+							written += runPoint(n, p, seed, rep, done, out);
+						}
+					}
+				}
+			}
+			
+			if(out.checkError()) {
+				throw new UncheckedIOException(new IOException("Could not write " + file));
+			}
+		}
+		catch(IOException e) {
+			throw new UncheckedIOException(e);
+		}
+		
+		return written;
+	}
+	
+	/**
+	 * Generate the graph of one point and measure every variant on it
+	 * which has not been measured yet
+	 * @param n The number of vertices
+	 * @param p The edge probability
+	 * @param seed The seed
+	 * @param rep The repetition
+	 * @param done The keys of the rows already written
+	 * @param out The results file
+	 * @return The number of rows written
+	 */
+	private int runPoint(int n, double p, long seed, int rep, Set<String> done, PrintWriter out) {
+		List<Variant> todo = new ArrayList<Variant>();
+		for(Variant v : variants) {
+			if(!done.contains(key(n, p, seed, v.getName(), rep))) todo.add(v);
+		}
+		if(todo.isEmpty()) return 0;
+		
+		CSRGraph graph;
+		long genStart = System.nanoTime();
+		try {
+			graph = (generatorThreads > 0)
+					? CSRGraph.generateParallel(n, seed, p, generatorThreads, maxAttempts)
+					: CSRGraph.generate(n, seed, p, maxAttempts);
+		}
+		catch(IllegalStateException e) {
+			System.err.println("Skipping n=" + n + ", p=" + p + ", seed=" + seed + ": " + e.getMessage());
+			return 0;
+		}
+		long genTime = System.nanoTime() - genStart;
+		
+		int written = 0;
+		for(Variant v : todo) {
+			if(v == Variant.DENSE_PRIM && !AdjacencyMatrix.weightMatrixFits(n)) {
+				System.err.println("Skipping dense-prim at n=" + n 
+						+ ": the weight matrix does not fit in memory");
+				continue;
+			}
+			
+			resetPeakMemory();
+			
+			long[] times = {genTime, 0, 0};
+			EdgeList mst = measure(v, graph, n, p, seed, times);
+			
+			writeRow(out, n, p, seed, v, rep, graph.getEdgeCount(), mst.getTotalWeight(),
+					times, peakMemory());
+			out.flush();
+			written++;
+		}
+		
+		return written;
+	}
+	
+	/**
+	 * Build the tree of a graph with one variant, timing its steps
+	 * @param v The variant
+	 * @param graph The generated graph
+	 * @param n The number of vertices
+	 * @param p The edge probability
+	 * @param seed The seed
+	 * @param times Holds the generation time, and receives the
+	 *     preparation and tree times, in nanoseconds
+	 * @return The edges of the minimum spanning tree
+	 */
+	private EdgeList measure(Variant v, CSRGraph graph, int n, double p, long seed, long[] times) {
+		Kruskal kruskal = new Kruskal(n);
+		long start = System.nanoTime();
+		long mid;
+		EdgeList mst;
+		
+		switch(v) {
+			case INSERTION_KRUSKAL:
+			case QUICKSORT_KRUSKAL:
+				Edge[] edges = toEdgeArray(graph.getEdges());
+				edges = (v == Variant.INSERTION_KRUSKAL) ? sort.insertionSort(edges)
+						: sort.quickSort(edges, 0, edges.length - 1);
+				mid = System.nanoTime();
+				mst = new EdgeList(n);
+				for(Edge e : kruskal.KruskalMST(edges)) {
+					mst.addEdge(e.getWeight(), e.getStartVertex(), e.getEndVertex());
+				}
+				break;
+			case COUNT_KRUSKAL:
+				long[] counted = sort.parallelCountSortPacked(graph.getEdges());
+				mid = System.nanoTime();
+				mst = kruskal.KruskalMST(counted, counted.length);
+				break;
+			case RADIX_KRUSKAL:
+				long[] radixed = sort.radixSort(graph.getPackedEdges(), graph.getEdgeCount());
+				mid = System.nanoTime();
+				mst = kruskal.KruskalMST(radixed, radixed.length);
+				break;
+			case BUCKET_KRUSKAL:
+				//The buckets replace the generated graph, so their generation is timed instead
+				WeightBuckets buckets = new WeightBuckets(n);
+				if(generatorThreads > 0) {
+					new ParallelGraphGenerator(n, seed, p, generatorThreads).generateConnected(buckets, maxAttempts);
+				}
+				else {
+					new GraphGenerator(n, seed, p).generateConnected(buckets, maxAttempts);
+				}
+				mid = System.nanoTime();
+				times[0] = mid - start;
+				start = mid;
+				mst = kruskal.KruskalMST(buckets);
+				break;
+			case FILTER_KRUSKAL:
+				EdgeList unsorted = graph.getEdges();
+				mid = System.nanoTime();
+				mst = kruskal.FilterKruskalMST(unsorted);
+				break;
+			case LAZY_KRUSKAL:
+				EdgeList heaped = graph.getEdges();
+				mid = System.nanoTime();
+				mst = kruskal.LazyKruskalMST(heaped);
+				break;
+			case HEAP_PRIM:
+				mid = start;
+				mst = new Prim(n).PrimMST(graph);
+				break;
+			case DENSE_PRIM:
+				int[] matrix = new AdjacencyMatrix(graph).getWeightMatrix(Integer.MAX_VALUE);
+				mid = System.nanoTime();
+				mst = new Prim(n).PrimMST(matrix);
+				break;
+			default:
+				mid = start;
+				mst = new Boruvka(n).BoruvkaMST(graph);
+				break;
+		}
+		
+		times[1] = mid - start;
+		times[2] = System.nanoTime() - mid;
+		return mst;
+	}
+	
+	/**
+	 * Write one row of results
+	 * @param out The results file
+	 * @param n The number of vertices
+	 * @param p The edge probability
+	 * @param seed The seed
+	 * @param v The variant
+	 * @param rep The repetition
+	 * @param edges The number of edges
+	 * @param weight The total weight of the tree
+	 * @param times The generation, preparation and tree times in nanoseconds
+	 * @param peak The peak heap use in bytes
+	 */
+	private void writeRow(PrintWriter out, int n, double p, long seed, Variant v, int rep,
+			int edges, long weight, long[] times, long peak) {
+		if(json) {
+			out.println("{\"n\":" + n + ",\"p\":" + p + ",\"seed\":" + seed
+					+ ",\"variant\":\"" + v.getName() + "\",\"rep\":" + rep
+					+ ",\"edges\":" + edges + ",\"total_weight\":" + weight
+					+ ",\"gen_ms\":" + millis(times[0]) + ",\"sort_ms\":" + millis(times[1])
+					+ ",\"mst_ms\":" + millis(times[2]) + ",\"peak_bytes\":" + peak + "}");
+		}
+		else {
+			out.println(n + "," + p + "," + seed + "," + v.getName() + "," + rep + ","
+					+ edges + "," + weight + "," + millis(times[0]) + "," + millis(times[1])
+					+ "," + millis(times[2]) + "," + peak);
+		}
+	}
+	
+	/**
+	 * Read the keys of the rows a results file already holds
+	 * @param file The results file
+	 * @return The keys, as key would build them
+	 * @throws UncheckedIOException If the file could not be read
+	 */
+	private Set<String> readCompleted(File file) {
+		Set<String> done = new HashSet<String>();
+		if(!file.exists()) return done;
+		
+		try(BufferedReader in = new BufferedReader(new FileReader(file))) {
+			String line;
+			while((line = in.readLine()) != null) {
+				if(json) {
+					Matcher m = JSON_KEY.matcher(line);
+					if(m.find()) {
+						done.add(key(Integer.parseInt(m.group(1)), Double.parseDouble(m.group(2)),
+								Long.parseLong(m.group(3)), m.group(4), Integer.parseInt(m.group(5))));
+					}
+				}
+				else if(!line.equals(CSV_HEADER)) {
+					//A row cut short by an interrupted sweep is measured again
+					String[] f = line.split(",");
+					if(f.length < CSV_HEADER.split(",").length) continue;
+					done.add(key(Integer.parseInt(f[0]), Double.parseDouble(f[1]),
+							Long.parseLong(f[2]), f[3], Integer.parseInt(f[4])));
+				}
+			}
+		}
+		catch(IOException e) {
+			throw new UncheckedIOException(e);
+		}
+		
+		return done;
+	}
+	
+	/**
+	 * Check whether a file was cut off partway through a row, so that the
+	 * next row must start on a new line
+	 * @param file The results file
+	 * @return Whether the file is non-empty and does not end with a newline
+	 * @throws IOException If the file could not be read
+	 */
+	private static boolean endsMidLine(File file) throws IOException {
+		if(file.length() == 0) return false;
+		
+		try(RandomAccessFile in = new RandomAccessFile(file, "r")) {
+			in.seek(file.length() - 1);
+			return in.read() != '\n';
+		}
+	}
+	
+	/**
+	 * Build the key which identifies a row
+	 * @param n The number of vertices
+	 * @param p The edge probability
+	 * @param seed The seed
+	 * @param variant The name of the variant
+	 * @param rep The repetition
+	 * @return The key
+	 */
+	private static String key(int n, double p, long seed, String variant, int rep) {
+		return n + "/" + p + "/" + seed + "/" + variant + "/" + rep;
+	}
+	
+	/**
+	 * Collect garbage and clear the peak use of each heap pool, so that
+	 * the next peak belongs to one variant
+	 */
+	private void resetPeakMemory() {
+		System.gc();
+		for(MemoryPoolMXBean pool : heapPools) {
+			pool.resetPeakUsage();
+		}
+	}
+	
+	/**
+	 * Get the peak heap use since resetPeakMemory
+	 * @return The sum of the peak use of each heap pool, in bytes
+	 */
+	private long peakMemory() {
+		long peak = 0;
+		for(MemoryPoolMXBean pool : heapPools) {
+			peak += pool.getPeakUsage().getUsed();
+		}
+		return peak;
+	}
+	
+	/**
+	 * Copy an EdgeList into an array of Edges
+	 * @param list The EdgeList
+	 * @return The equivalent Edge array
+	 */
+	private static Edge[] toEdgeArray(EdgeList list) {
+		Edge[] edges = new Edge[list.size()];
+		
+		for(int i = 0; i < edges.length; i++) {
+			edges[i] = new Edge(list.getWeight(i), list.getStartVertex(i), list.getEndVertex(i));
+		}
+		
+		return edges;
+	}
+	
+	/**
+	 * Format a time in nanoseconds as milliseconds
+	 * @param nanos The time in nanoseconds
+	 * @return The time in milliseconds, to three decimal places
+	 */
+	private static String millis(long nanos) {
+		return String.format(Locale.ROOT, "%.3f", nanos / 1e6);
+	}
+	
+	/**
+	 * Expand a range argument of real numbers, such as the edge
+	 * probabilities, into its values
+	 * @param arg A comma separated list of values and ranges, where
+	 *     a..b+s steps from a to b by s and a..b*f multiplies by f
+	 * @return The values, in order
+	 * @throws IllegalArgumentException If the range is malformed
+	 */
+	public static double[] parseRange(String arg) {
+		List<Double> values = new ArrayList<Double>();
+		
+		for(String part : arg.split(",")) {
+			int dots = part.indexOf("..");
+			if(dots < 0) {
+				values.add(Double.parseDouble(part));
+				continue;
+			}
+			
+			double start = Double.parseDouble(part.substring(0, dots));
+			String rest = part.substring(dots + 2);
+			int op = Math.max(rest.indexOf('+'), rest.indexOf('*'));
+			double end = Double.parseDouble(op < 0 ? rest : rest.substring(0, op));
+			double step = (op < 0) ? 1 : Double.parseDouble(rest.substring(op + 1));
+			boolean multiply = op >= 0 && rest.charAt(op) == '*';
+			
+			if(multiply ? (step <= 1 || start <= 0) : step <= 0) {
+				throw new IllegalArgumentException("Range does not advance: " + part);
+			}
+			
+			//Step by index, so that the values do not collect rounding error
+			for(int i = 0; ; i++) {
+				double value = multiply ? start * Math.pow(step, i) : start + i * step;
+				if(value > end * (1 + 1e-9)) break;
+				values.add(multiply ? value : Math.round(value * 1e9) / 1e9);
+			}
+		}
+		
+		double[] result = new double[values.size()];
+		for(int i = 0; i < result.length; i++) {
+			result[i] = values.get(i);
+		}
+		return result;
+	}
+	
+	/**
+	 * Expand a range argument of whole numbers into its values, using
+	 * exact long arithmetic so that large seeds keep their value
+	 * @param arg A comma separated list of values and ranges, where
+	 *     a..b+s steps from a to b by s and a..b*f multiplies by f
+	 * @return The values, in order
+	 * @throws IllegalArgumentException If the range is malformed
+	 */
+	public static long[] parseLongRange(String arg) {
+		List<Long> values = new ArrayList<Long>();
+		
+		for(String part : arg.split(",")) {
+			int dots = part.indexOf("..");
+			if(dots < 0) {
+				values.add(Long.parseLong(part));
+				continue;
+			}
+			
+			long start = Long.parseLong(part.substring(0, dots));
+			String rest = part.substring(dots + 2);
+			int op = Math.max(rest.indexOf('+'), rest.indexOf('*'));
+			long end = Long.parseLong(op < 0 ? rest : rest.substring(0, op));
+			long step = (op < 0) ? 1 : Long.parseLong(rest.substring(op + 1));
+			boolean multiply = op >= 0 && rest.charAt(op) == '*';
+			
+			if(multiply ? (step <= 1 || start <= 0) : step <= 0) {
+				throw new IllegalArgumentException("Range does not advance: " + part);
+			}
+			
+			//Stop at the end, or where the next value would overflow
+			for(long value = start; value <= end; ) {
+				values.add(value);
+				try {
+					value = multiply ? Math.multiplyExact(value, step) : Math.addExact(value, step);
+				}
+				catch(ArithmeticException e) {
+					break;
+				}
+			}
+		}
+		
+		long[] result = new long[values.size()];
+		for(int i = 0; i < result.length; i++) {
+			result[i] = values.get(i);
+		}
+		return result;
+	}
+	
+	/**
+	 * The sweep program
+	 * @param args Command Line arguments, see the class description
+	 */
+	public static void main(String[] args) {
+		long[] n = null, s = {1};
+		double[] p = null;
+		List<Variant> variants = new ArrayList<Variant>();
+		int reps = 1, attempts = 100, genThreads = 0;
+		boolean json = false;
+		File file = null;
+		
+		try {
+			for(int i = 0; i < args.length; i += 2) {
+				if(i + 1 >= args.length) usage("Missing value for " + args[i]);
+				String value = args[i + 1];
+				
+				switch(args[i]) {
+					case "-n": n = parseLongRange(value); break;
+					case "-p": p = parseRange(value); break;
+					case "-seeds": s = parseLongRange(value); break;
+					case "-reps": reps = Integer.parseInt(value); break;
+					case "-attempts": attempts = Integer.parseInt(value); break;
+					case "-gen-threads": genThreads = Integer.parseInt(value); break;
+					case "-out": file = new File(value); break;
+					case "-format":
+						if(!value.equals("csv") && !value.equals("json")) usage("format must be csv or json");
+						json = value.equals("json");
+						break;
+					case "-variants":
+						for(String name : value.split(",")) {
+							variants.add(Variant.forName(name));
+						}
+						break;
+					default: usage("Unknown option " + args[i]);
+				}
+			}
+		}
+		catch(IllegalArgumentException e) {
+			usage(e.getMessage());
+		}
+		
+		if(n == null || p == null || file == null) usage("-n, -p and -out are required");
+		if(n.length == 0 || p.length == 0 || s.length == 0) usage("A range holds no values");
+		if(reps < 1) usage("reps must be at least 1");
+		if(attempts < 0) usage("attempts must not be negative");
+		if(genThreads < 0) usage("gen-threads must not be negative");
+		if(variants.isEmpty()) {
+			for(Variant v : Variant.values()) {
+				if(v != Variant.INSERTION_KRUSKAL) variants.add(v);
+			}
+		}
+		
+		int[] sizes = new int[n.length];
+		for(int i = 0; i < n.length; i++) {
+			if(n[i] < 2 || n[i] > Integer.MAX_VALUE) usage("n must be between 2 and " + Integer.MAX_VALUE);
+			sizes[i] = (int) n[i];
+		}
+		for(double prob : p) {
+			if(prob < 0.0 || prob > 1.0) usage("p must be between 0 and 1");
+		}
+		
+		int written = new SweepRunner(sizes, p, s, variants, reps, attempts, genThreads, json).run(file);
+		System.out.println("Wrote " + written + " rows to " + file);
+	}
+	
+	/**
+	 * Usage prints a message to the terminal and terminates
+	 * with status code 1
+	 * @param msg The message to print
+	 */
+	private static void usage(String msg) {
+		System.out.println(msg);
+		System.out.println("Usage: java mst.SweepRunner -n <range> -p <range> [-seeds <range>] "
+				+ "[-variants <names>] [-reps <count>] [-attempts <count>] "
+				+ "[-gen-threads <count>] [-format csv|json] -out <file>");
+		System.exit(1);
+	}
+}
@@ -0,0 +1,154 @@
+package mst;
+
+/**
+ * The Traversal class performs iterative Depth-First and Breadth-First
+ * searches over any Adjacency. Visited vertices are tracked in a long[]
+ * bitset and the search uses an explicit stack or queue, so it cannot
+ * overflow the call stack on long paths. Each search keeps its own
+ * state, so searches may run concurrently on a shared graph.
+ * @author Thomas LaSalle (tel5027)
+ */
+public class Traversal {
+	
+	//Instance Variables
+	private int order[], preds[], count;
+	
+	/**
+	 * Construct an empty search result for a graph with n vertices
+	 * @param n The number of vertices
+	 */
+	private Traversal(int n) {
+		order = new int[n];
+		preds = new int[n];
+		count = 0;
+		
+		for(int i = 0; i < n; i++) {
+			preds[i] = -1;
+		}
+	}
+	
+	/**
+	 * Perform a Depth-First search of the graph. Neighbors are explored
+	 * in the order the graph lists them, so the result matches a
+	 * recursive search.
+	 * @param graph The graph to search
+	 * @param root The vertex to begin the search from
+	 * @return The discovery order and predecessors of the search
+	 */
+	public static Traversal dfs(Adjacency graph, int root) {
+		int n = graph.getVertexCount();
+		Traversal t = new Traversal(n);
+		long[] marked = new long[(n + 63) >>> 6];
+		int[] stack = new int[n];
+		int[] cursor = new int[n];
+		int top = 0;
+		
+		mark(marked, root);
+		t.order[t.count++] = root;
+		stack[top] = root;
+		cursor[top++] = graph.firstEdge(root);
+		
+		while(top > 0) {
+			int u = stack[top - 1];
+			int c = cursor[top - 1];
+			
+			//Skip the neighbors which have already been discovered
+			while(c != -1 && isMarked(marked, graph.getTarget(c))) {
+				c = graph.nextEdge(u, c);
+			}
+			
+			if(c == -1) {
+				top--;
+				continue;
+			}
+			
+			int v = graph.getTarget(c);
+			cursor[top - 1] = graph.nextEdge(u, c);
+			
+			mark(marked, v);
+			t.order[t.count++] = v;
+			t.preds[v] = u;
+			stack[top] = v;
+			cursor[top++] = graph.firstEdge(v);
+		}
+		
+		return t;
+	}
+	
+	/**
+	 * Perform a Breadth-First search of the graph
+	 * @param graph The graph to search
+	 * @param root The vertex to begin the search from
+	 * @return The discovery order and predecessors of the search
+	 */
+	public static Traversal bfs(Adjacency graph, int root) {
+		int n = graph.getVertexCount();
+		Traversal t = new Traversal(n);
+		long[] marked = new long[(n + 63) >>> 6];
+		int head = 0;
+		
+		//The discovery order doubles as the queue
+		mark(marked, root);
+		t.order[t.count++] = root;
+		
+		while(head < t.count) {
+			int u = t.order[head++];
+			
+			for(int c = graph.firstEdge(u); c != -1; c = graph.nextEdge(u, c)) {
+				int v = graph.getTarget(c);
+				if(!isMarked(marked, v)) {
+					mark(marked, v);
+					t.order[t.count++] = v;
+					t.preds[v] = u;
+				}
+			}
+		}
+		
+		return t;
+	}
+	
+	/**
+	 * Mark a vertex as visited
+	 * @param marked The visited bitset
+	 * @param v The vertex
+	 */
+	private static void mark(long[] marked, int v) {
+		marked[v >>> 6] |= 1L << v;
+	}
+	
+	/**
+	 * Check to see if a vertex has been visited
+	 * @param marked The visited bitset
+	 * @param v The vertex
+	 * @return Whether the vertex has been visited or not
+	 */
+	private static boolean isMarked(long[] marked, int v) {
+		return (marked[v >>> 6] & (1L << v)) != 0;
+	}
+	
+	/**
+	 * Get the vertices in the order the search discovered them. Only the
+	 * first getCount() entries are valid.
+	 * @return The discovery order
+	 */
+	public int[] getOrder() {
+		return order;
+	}
+	
+	/**
+	 * Get the predecessor of each vertex in the search tree
+	 * @return The predecessors, with -1 for the root and for any vertex
+	 *     the search did not reach
+	 */
+	public int[] getPredecessors() {
+		return preds;
+	}
+	
+	/**
+	 * Get the number of vertices the search reached
+	 * @return The number of reachable vertices, including the root
+	 */
+	public int getCount() {
+		return count;
+	}
+}
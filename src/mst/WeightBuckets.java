@@ -0,0 +1,146 @@
+package mst;
+
+import java.util.Arrays;
+
+/**
+ * The WeightBuckets class receives generated edges straight into one
+ * bucket per weight, so that they can be visited in order of weight
+ * without being sorted. Each bucket keeps its edges in the order they
+ * arrived; since GraphGenerator emits edges by increasing start vertex,
+ * then increasing end vertex, walking the buckets from the lightest to
+ * the heaviest gives the same order as Edge.compareTo.
+ * 
+ * Edges are held in primitive arrays, and each bucket is a chain of
+ * indices into them. A cursor starts at firstEdge(weight), moves on with
+ * nextEdge, and is -1 once the bucket is exhausted.
+ * @author Thomas LaSalle (tel5027)
+ */
+public class WeightBuckets implements EdgeSink {
+	
+	//Instance Variables
+	private int head[], tail[], next[], starts[], ends[];
+	private int size;
+	
+	//Constants
+	private final int DEFAULT_CAPACITY = 16;
+	
+	/**
+	 * Construct a new, empty set of buckets for the weights 0 through
+	 * maxWeight
+	 * @param maxWeight The largest weight an edge may have
+	 */
+	public WeightBuckets(int maxWeight) {
+		head = new int[maxWeight + 1];
+		tail = new int[maxWeight + 1];
+		next = new int[DEFAULT_CAPACITY];
+		starts = new int[DEFAULT_CAPACITY];
+		ends = new int[DEFAULT_CAPACITY];
+		clear();
+	}
+	
+	/**
+	 * Add an edge to the end of the bucket for its weight
+	 * @param weight The edge weight, from 0 to getMaxWeight()
+	 * @param start The starting vertex
+	 * @param end The ending vertex
+	 */
+	@Override
+	public void addEdge(int weight, int start, int end) {
+		if(size == next.length) {
+			int capacity = 2 * size;
+			next = Arrays.copyOf(next, capacity);
+			starts = Arrays.copyOf(starts, capacity);
+			ends = Arrays.copyOf(ends, capacity);
+		}
+		
+		starts[size] = start;
+		ends[size] = end;
+		next[size] = -1;
+		
+		if(head[weight] == -1) {
+			head[weight] = size;
+		}
+		else {
+			next[tail[weight]] = size;
+		}
+		tail[weight] = size;
+		size++;
+	}
+	
+	/**
+	 * Remove every edge from the buckets, keeping their capacity
+	 */
+	public void clear() {
+		Arrays.fill(head, -1);
+		size = 0;
+	}
+	
+	/**
+	 * Get the number of edges in all of the buckets
+	 * @return The number of edges
+	 */
+	public int size() {
+		return size;
+	}
+	
+	/**
+	 * Get the largest weight the buckets can hold
+	 * @return The largest weight
+	 */
+	public int getMaxWeight() {
+		return head.length - 1;
+	}
+	
+	/**
+	 * Get the cursor of the first edge with the given weight
+	 * @param weight The weight
+	 * @return The cursor, or -1 if there is no edge of that weight
+	 */
+	public int firstEdge(int weight) {
+		return head[weight];
+	}
+	
+	/**
+	 * Get the cursor of the edge after the given one in its bucket
+	 * @param cursor The cursor of an edge
+	 * @return The cursor of the next edge, or -1 if there is none
+	 */
+	public int nextEdge(int cursor) {
+		return next[cursor];
+	}
+	
+	/**
+	 * Get the starting vertex of an edge
+	 * @param cursor The cursor of the edge
+	 * @return The start vertex
+	 */
+	public int getStartVertex(int cursor) {
+		return starts[cursor];
+	}
+	
+	/**
+	 * Get the ending vertex of an edge
+	 * @param cursor The cursor of the edge
+	 * @return The end vertex
+	 */
+	public int getEndVertex(int cursor) {
+		return ends[cursor];
+	}
+	
+	/**
+	 * Copy the edges into an EdgeList in order of weight, without
+	 * sorting them
+	 * @return The edges, lightest first
+	 */
+	public EdgeList toEdgeList() {
+		EdgeList list = new EdgeList(size);
+		
+		for(int w = 0; w < head.length; w++) {
+			for(int i = head[w]; i != -1; i = next[i]) {
+				list.addEdge(w, starts[i], ends[i]);
+			}
+		}
+		
+		return list;
+	}
+}